@@ -2,6 +2,7 @@ package seedu.quotely;
 
 import seedu.quotely.command.Command;
 import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.LoadedQuoteCache;
 import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.exception.QuotelyException;
@@ -10,17 +11,48 @@ import seedu.quotely.ui.Ui;
 import seedu.quotely.util.LoggerConfig;
 
 import seedu.quotely.storage.Storage;
+import seedu.quotely.storage.BinarySerializer;
+import seedu.quotely.storage.DataSerializer;
 import seedu.quotely.storage.JsonSerializer;
 import seedu.quotely.storage.ApplicationData;
+import seedu.quotely.storage.BackgroundSaver;
+import seedu.quotely.storage.ChangeJournal;
+import seedu.quotely.storage.JournalEntry;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
 
 import java.util.logging.Logger;
 
 public class Quotely {
-    private static Logger logger;
+    private static final Logger logger = LoggerConfig.getLogger(Quotely.class);
 
     private static final String DEFAULT_STORAGE_DIRECTORY = "data";
     private static final String DEFAULT_STORAGE_FILENAME = "quotely.json";
+    private static final String DEFAULT_JOURNAL_FILENAME = "quotely.journal";
+    // binary data file, mapped instead of loaded in read-only and lazy mode
+    private static final String DEFAULT_BINARY_FILENAME = "quotely.qbin";
+    private static final String DEFAULT_BINARY_JOURNAL_FILENAME = "quotely.qbin.journal";
+    private static final String READ_ONLY_FLAG = "--read-only";
+    private static final String LAZY_FLAG = "--lazy";
+    private static final String SCRIPT_FLAG = "--script";
+    private static final String MAX_ITEMS_FLAG = "--max-items";
+    private static final String SCRIPT_COMMENT_PREFIX = "#";
+    // number of changing script commands after which the data is saved, so a long script keeps most of its work
+    // if it is interrupted
+    private static final int SCRIPT_SAVE_INTERVAL = 1000;
+    // number of quotes that keep their items in memory in lazy mode
+    private static final int MAX_LOADED_QUOTES = 100;
+    // number of journaled changes after which they are compacted into the data file
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 200;
+    // longest time a full save may be delayed so that bursts of changes are written once
+    private static final long SAVE_MAX_STALENESS_MILLIS = 2000;
 
     private Ui ui;
     private CompanyName companyName;
@@ -29,25 +61,241 @@ public class Quotely {
 
     // Fields for storage
     private Storage storage;
-    private JsonSerializer serializer;
+    private DataSerializer serializer;
+    private ChangeJournal journal;
+    private BackgroundSaver saver;
+    // writes any pending save if the JVM exits before run() or runScript() finishes; removed once they do
+    private Thread shutdownHook;
+    // revision of the latest change, saved with the data file to skip already-saved journal entries
+    private long revision;
+    private final DataMode dataMode;
+    private final String storageDirectory;
+    // the number of items a quote can hold, see --max-items
+    private final int maxItems;
+
+    /**
+     * How the data file is loaded.
+     */
+    public enum DataMode {
+        /** Load quotely.json in full, the default. */
+        IN_MEMORY,
+        /** Keep data in quotely.qbin, reading items only when used and keeping a bounded number in memory. */
+        LAZY,
+        /** Map quotely.qbin (or load quotely.json) only to view it; commands that change data are rejected. */
+        READ_ONLY
+    }
+
+    public Quotely() {
+        this(DataMode.IN_MEMORY);
+    }
 
     /**
      * Constructor for Quotely
      * 1) create new ui instance
      * 2) create new CompanyName and set a default company name
-     * 3) initialise storage and load existing data if any
+     * 3) initialise storage and load existing data if any, replaying unsaved changes
+     *
+     * @param dataMode How the data file is loaded, see DataMode.
      */
-    public Quotely() {
+    public Quotely(DataMode dataMode) {
+        this(dataMode, Parser.DEFAULT_MAX_ITEMS);
+    }
+
+    /**
+     * Creates a Quotely whose quotes can hold at most maxItems items.
+     */
+    public Quotely(DataMode dataMode, int maxItems) {
+        this(dataMode, DEFAULT_STORAGE_DIRECTORY, maxItems);
+    }
+
+    /**
+     * Creates a Quotely that keeps its data files in the given directory instead of the default one.
+     */
+    Quotely(DataMode dataMode, String storageDirectory) {
+        this(dataMode, storageDirectory, Parser.DEFAULT_MAX_ITEMS);
+    }
+
+    /**
+     * Creates a Quotely that keeps its data files in the given directory and whose quotes can hold at most
+     * maxItems items.
+     */
+    Quotely(DataMode dataMode, String storageDirectory, int maxItems) {
+        assert maxItems > 0 : "Maximum number of items must be positive";
+        this.dataMode = dataMode;
+        this.storageDirectory = storageDirectory;
+        this.maxItems = maxItems;
         ui = Ui.getInstance();
         state = QuotelyState.getInstance();
         companyName = new CompanyName("Default");
 
         // Initialize storage and load data
-        storage = new Storage(DEFAULT_STORAGE_DIRECTORY, DEFAULT_STORAGE_FILENAME);
-        serializer = new JsonSerializer();
+        if (dataMode == DataMode.LAZY) {
+            storage = new Storage(storageDirectory, DEFAULT_BINARY_FILENAME);
+            serializer = new BinarySerializer();
+            journal = new ChangeJournal(storageDirectory, DEFAULT_BINARY_JOURNAL_FILENAME);
+        } else {
+            storage = new Storage(storageDirectory, DEFAULT_STORAGE_FILENAME);
+            serializer = new JsonSerializer();
+            journal = new ChangeJournal(storageDirectory, DEFAULT_JOURNAL_FILENAME);
+        }
+        saver = new BackgroundSaver(storage, serializer, journal, SAVE_MAX_STALENESS_MILLIS);
+        // write any pending save even if the user closes the terminal instead of typing exit
+        shutdownHook = new Thread(saver::shutdown, "quotely-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
 
+        if (dataMode == DataMode.READ_ONLY) {
+            loadReadOnlyData();
+        } else if (dataMode == DataMode.LAZY) {
+            loadLazyData();
+            replayJournal();
+        } else {
+            loadDefaultData();
+            replayJournal();
+        }
+    }
+
+    /**
+     * Loads quotely.json, unless lazy mode changed quotely.qbin after it, in which case that is converted.
+     */
+    private void loadDefaultData() {
+        if (isBinaryDataNewer()) {
+            convertData(new Storage(storageDirectory, DEFAULT_BINARY_FILENAME), new BinarySerializer(),
+                    new ChangeJournal(storageDirectory, DEFAULT_BINARY_JOURNAL_FILENAME));
+            return;
+        }
         loadDataFromFile();
+    }
+
+    /**
+     * Loads the data file of the other mode, which was changed last, replays its journal, and saves the result
+     * in this mode's format straight away, so the default and lazy mode keep working on one book instead of
+     * each keeping its own. This mode's journal belongs to the older data and is cleared.
+     * If the other data file cannot be read, this mode's own data file is loaded instead.
+     */
+    private void convertData(Storage source, DataSerializer sourceSerializer, ChangeJournal sourceJournal) {
+        logger.info("Converting " + source.getDataFilePath() + ", which was changed last, to "
+                + storage.getDataFilePath());
+        if (!loadDataFromFile(source, sourceSerializer)) {
+            loadDataFromFile();
+            return;
+        }
+        applyJournalEntries(loadJournalEntries(sourceJournal));
+        try {
+            journal.clear();
+        } catch (IOException e) {
+            logger.warning("Failed to clear journal of the older data file: " + e.getMessage());
+        }
+        saveDataToFile();
+        flushDataToFile();
+    }
+
+    /**
+     * Maps the binary data file, keeping every quote header in memory but reading items only when
+     * a command uses them, for at most MAX_LOADED_QUOTES quotes at a time.
+     * If quotely.json or its journal was changed after the binary data file, e.g. there is no binary data file yet
+     * or the default mode ran since, it is converted to the binary format instead.
+     */
+    private void loadLazyData() {
+        if (compareBinaryToJsonData() < 0) {
+            convertData(new Storage(storageDirectory, DEFAULT_STORAGE_FILENAME), new JsonSerializer(),
+                    new ChangeJournal(storageDirectory, DEFAULT_JOURNAL_FILENAME));
+            return;
+        }
+
+        try {
+            ApplicationData mappedData = storage.mapData(new LoadedQuoteCache(MAX_LOADED_QUOTES));
+            this.quoteList = mappedData.getQuoteList();
+            this.companyName = mappedData.getCompanyName() != null
+                    ? mappedData.getCompanyName()
+                    : new CompanyName("Default");
+            this.revision = mappedData.getRevision();
+            logger.info("Mapped data from " + storage.getDataFilePath() + " in lazy mode");
+        } catch (IOException e) {
+            // loading in full also falls back to the backups
+            logger.warning("Failed to map data file, loading it in full instead. Error: " + e.getMessage());
+            loadDataFromFile();
+        }
+    }
+
+    /**
+     * Opens whichever of quotely.json and quotely.qbin was changed last, with its journal, see isBinaryDataNewer().
+     * The binary data file is mapped, so only the quotes that are used get loaded. Journaled changes are replayed
+     * in memory only, since nothing may be saved.
+     */
+    private void loadReadOnlyData() {
+        if (!isBinaryDataNewer()) {
+            logger.info("Loading " + storage.getDataFilePath() + " in read-only mode");
+            loadDataFromFile();
+            applyJournalEntries(loadJournalEntries(journal));
+            return;
+        }
 
+        Storage binaryStorage = new Storage(storageDirectory, DEFAULT_BINARY_FILENAME);
+        List<JournalEntry> entries = loadJournalEntries(
+                new ChangeJournal(storageDirectory, DEFAULT_BINARY_JOURNAL_FILENAME));
+        try {
+            // journaled changes need a modifiable list, whose quote headers are all read up front
+            ApplicationData mappedData = entries.isEmpty()
+                    ? binaryStorage.mapData()
+                    : binaryStorage.mapDataInPlace(new LoadedQuoteCache(MAX_LOADED_QUOTES));
+            this.quoteList = mappedData.getQuoteList();
+            this.companyName = mappedData.getCompanyName() != null
+                    ? mappedData.getCompanyName()
+                    : new CompanyName("Default");
+            this.revision = mappedData.getRevision();
+            logger.info("Mapped data from " + binaryStorage.getDataFilePath() + " in read-only mode");
+        } catch (IOException e) {
+            // e.g. an older version of the binary format, which is still read in full; quotely.json is older
+            logger.warning("Failed to map binary data file, loading it in full instead. Error: " + e.getMessage());
+            ui.showError("Could not map " + binaryStorage.getDataFilePath() + " (" + e.getMessage()
+                    + "), loading it in full instead.");
+            loadDataFromFile(binaryStorage, new BinarySerializer());
+        }
+        applyJournalEntries(entries);
+    }
+
+    /**
+     * Returns true if quotely.qbin or its journal was changed after quotely.json and its journal,
+     * i.e. lazy mode saved or journaled a change after the default mode last did.
+     */
+    private boolean isBinaryDataNewer() {
+        return compareBinaryToJsonData() > 0;
+    }
+
+    /**
+     * Compares when quotely.qbin and quotely.json were last changed, each with its journal: positive if the
+     * binary data is newer, negative if the JSON data is newer, and 0 if neither is.
+     * A missing data file with no journal is older than any other.
+     */
+    private int compareBinaryToJsonData() {
+        FileTime binaryTime = getLastModifiedTime(
+                Paths.get(storageDirectory, DEFAULT_BINARY_FILENAME),
+                Paths.get(storageDirectory, DEFAULT_BINARY_JOURNAL_FILENAME));
+        FileTime jsonTime = getLastModifiedTime(
+                Paths.get(storageDirectory, DEFAULT_STORAGE_FILENAME),
+                Paths.get(storageDirectory, DEFAULT_JOURNAL_FILENAME));
+        if (binaryTime == null || jsonTime == null) {
+            return binaryTime != null ? 1 : jsonTime != null ? -1 : 0;
+        }
+        return binaryTime.compareTo(jsonTime);
+    }
+
+    /**
+     * Returns the time the last of the given files was changed, or null if none of them exists.
+     */
+    private static FileTime getLastModifiedTime(Path... paths) {
+        FileTime lastModified = null;
+        for (Path path : paths) {
+            try {
+                FileTime time = Files.getLastModifiedTime(path);
+                if (lastModified == null || time.compareTo(lastModified) > 0) {
+                    lastModified = time;
+                }
+            } catch (IOException e) {
+                logger.finer("No modification time for " + path + ": " + e.getMessage());
+            }
+        }
+        return lastModified;
     }
 
     /**
@@ -55,18 +303,28 @@ public class Quotely {
      * If the file is not found or is corrupted, initializes with new empty data.
      */
     private void loadDataFromFile() {
+        loadDataFromFile(storage, serializer);
+    }
+
+    /**
+     * Loads the data from the given data file, or initializes new empty data if it cannot be read.
+     *
+     * @return true if the data file was read.
+     */
+    private boolean loadDataFromFile(Storage sourceStorage, DataSerializer sourceSerializer) {
         try {
-            String jsonData = storage.loadData();
-            // Deserialize the wrapper object
-            ApplicationData loadedData = serializer.deserialize(jsonData);
+            // Stream the file straight into the wrapper object
+            ApplicationData loadedData = sourceStorage.loadData(sourceSerializer);
 
             assert loadedData != null : "Deserialization should not return null";
 
             // Set the class fields from the loaded data
             this.quoteList = loadedData.getQuoteList();
             this.companyName = loadedData.getCompanyName();
+            this.revision = loadedData.getRevision();
 
-            logger.info("Successfully loaded data from " + storage.getDataFilePath());
+            logger.info("Successfully loaded data from " + sourceStorage.getDataFilePath());
+            return true;
 
         } catch (IOException e) {
             logger.warning("Failed to read from data file. " +
@@ -82,23 +340,106 @@ public class Quotely {
             this.quoteList = new QuoteList();
             this.companyName = new CompanyName("Default");
         }
+        return false;
+    }
+
+    /**
+     * Re-applies changes recorded in the journal after the data file was last saved,
+     * then compacts them into the data file.
+     */
+    private void replayJournal() {
+        List<JournalEntry> entries = loadJournalEntries(journal);
+        applyJournalEntries(entries);
+        if (!entries.isEmpty()) {
+            saveDataToFile();
+        }
+    }
+
+    private List<JournalEntry> loadJournalEntries(ChangeJournal source) {
+        try {
+            return source.loadEntries();
+        } catch (IOException e) {
+            logger.warning("Failed to read journal file. Unsaved changes are lost. Error: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Applies the journal entries made after the revision of the loaded data, in memory.
+     */
+    private void applyJournalEntries(List<JournalEntry> entries) {
+        int applied = 0;
+        for (JournalEntry entry : entries) {
+            if (entry.getRevision() <= revision) {
+                continue; // already contained in the data file
+            }
+            try {
+                entry.apply(quoteList, companyName);
+                applied++;
+            } catch (QuotelyException e) {
+                logger.warning("Skipping journal entry " + entry.getType() + " at revision "
+                        + entry.getRevision() + ": " + e.getMessage());
+            }
+            revision = entry.getRevision();
+        }
+        logger.info("Replayed " + applied + " of " + entries.size() + " journal entries");
     }
 
     /**
-     * Saves the current QuoteList and CompanyName to the file specified in storage.
+     * Persists the change made by a successfully executed command.
+     * Read-only commands are skipped, journaled changes are appended to the journal,
+     * and anything else falls back to a full save.
+     */
+    private void recordChange(Command command) {
+        if (!command.isMutating()) {
+            return;
+        }
+        JournalEntry entry = command.getJournalEntry();
+        if (entry == null) {
+            saveDataToFile();
+            return;
+        }
+
+        try {
+            revision++;
+            entry.setRevision(revision);
+            journal.append(entry);
+        } catch (IOException e) {
+            logger.warning("Failed to append to journal, saving full data instead: " + e.getMessage());
+            saveDataToFile();
+            return;
+        }
+
+        // a save already in progress will be followed by the next compaction
+        if (journal.getEntryCount() >= JOURNAL_COMPACTION_THRESHOLD && !saver.hasPendingSave()) {
+            saveDataToFile();
+        }
+    }
+
+    /**
+     * Schedules the current QuoteList and CompanyName to be saved to the file specified in storage.
+     * A snapshot of the data is handed to the background saver, which writes it within
+     * SAVE_MAX_STALENESS_MILLIS and then discards the journal entries it contains.
+     * Taking the snapshot copies only the quotes changed since the last one, see QuoteList.snapshot().
      */
     private void saveDataToFile() {
         assert quoteList != null : "Cannot save a null QuoteList";
         assert companyName != null : "Cannot save a null CompanyName";
-        assert serializer != null : "Serializer must be initialized to save";
+        assert saver != null : "Saver must be initialized to save";
 
-        try {
-            // Wrap both objects in the container
-            ApplicationData appData = new ApplicationData(quoteList, companyName);
-            // Serialize the wrapper object
-            String jsonData = serializer.serialize(appData);
+        // Wrap snapshots of both objects in the container, so later commands do not change what is written
+        ApplicationData appData = new ApplicationData(quoteList.snapshot(),
+                new CompanyName(companyName.getCompanyName()));
+        appData.setRevision(revision);
+        saver.requestSave(appData);
+    }
 
-            storage.saveData(jsonData);
+    /**
+     * Blocks until all scheduled saves are written to the file.
+     */
+    private void flushDataToFile() {
+        try {
+            saver.flush();
             logger.info("Data saved successfully to " + storage.getDataFilePath());
         } catch (IOException e) {
             logger.severe("Failed to save data to file: " + e.getMessage());
@@ -117,35 +458,186 @@ public class Quotely {
                 ui.showLine();
                 logger.finer("Read successful, parsing command: ...");
                 // parser throws QuotelyException if parse invalid
-                Command command = Parser.parse(fullCommand, state, quoteList);
+                Command command = parseCommand(fullCommand);
                 logger.finer("Parse successful, executing command...");
                 // execute throws QuotelyException if data mutation fails
                 command.execute(ui, quoteList, companyName, state);
                 isExit = command.isExit();
 
-                // Save data after every successful command that doesn't exit
+                // Record the change made by every successful command that doesn't exit
                 if (!isExit) {
-                    saveDataToFile();
+                    recordChange(command);
                 }
 
             } catch (QuotelyException e) {
                 ui.showError(e.getMessage());
                 logger.severe(e.getMessage());
+            } catch (UncheckedIOException e) {
+                // a quote mapped in read-only or lazy mode could not be read from the data file
+                ui.showError("Could not read the quote from the data file: " + e.getCause().getMessage());
+                logger.severe(e.getMessage());
             } finally {
                 ui.showLine();
             }
         }
+
+        // Fold any remaining journaled changes into the data file before leaving
+        if (dataMode != DataMode.READ_ONLY && journal.getEntryCount() > 0) {
+            saveDataToFile();
+        }
+        flushDataToFile();
+        shutdown();
+    }
+
+    /**
+     * Runs the commands in a script file, one per line, without prompting for them.
+     * Blank lines and lines starting with # are skipped, and the script stops at an exit command.
+     * Instead of recording every change, the data is saved every SCRIPT_SAVE_INTERVAL changing commands
+     * and once at the end. A failing command is reported with its line number and the script carries on.
+     *
+     * @param scriptFile File with one command per line.
+     * @return The number of commands that failed, or -1 if the script file could not be read.
+     */
+    public int runScript(Path scriptFile) {
+        logger.info("Running script " + scriptFile);
+        int executed = 0;
+        int failed = 0;
+        int unsaved = 0;
+        boolean isReadable = true;
+        try (BufferedReader reader = Files.newBufferedReader(scriptFile)) {
+            int lineNumber = 0;
+            String line;
+            boolean isExit = false;
+            while (!isExit && (line = reader.readLine()) != null) {
+                lineNumber++;
+                String fullCommand = line.trim();
+                if (fullCommand.isEmpty() || fullCommand.startsWith(SCRIPT_COMMENT_PREFIX)) {
+                    continue;
+                }
+                executed++;
+                try {
+                    Command command = parseCommand(fullCommand);
+                    command.execute(ui, quoteList, companyName, state);
+                    isExit = command.isExit();
+                    if (command.isMutating() && ++unsaved >= SCRIPT_SAVE_INTERVAL) {
+                        saveDataToFile();
+                        unsaved = 0;
+                    }
+                } catch (QuotelyException e) {
+                    failed++;
+                    ui.showError("Line " + lineNumber + ": " + e.getMessage());
+                    logger.warning("Script line " + lineNumber + " failed: " + e.getMessage());
+                } catch (UncheckedIOException e) {
+                    failed++;
+                    ui.showError("Line " + lineNumber + ": Could not read the quote from the data file: "
+                            + e.getCause().getMessage());
+                    logger.severe("Script line " + lineNumber + " failed: " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            isReadable = false;
+            logger.severe("Failed to read script file: " + e.getMessage());
+            ui.showError("Could not read script file " + scriptFile + ": " + e.getMessage());
+        }
+
+        if (unsaved > 0) {
+            saveDataToFile();
+        }
+        flushDataToFile();
+        shutdown();
+        ui.showMessage(String.format("Ran %d commands from %s, %d failed.", executed, scriptFile, failed));
+        return isReadable ? failed : -1;
+    }
+
+    /**
+     * Stops the background saver once it has written any pending save, and removes the shutdown hook,
+     * which would otherwise keep this Quotely alive until the JVM exits.
+     */
+    private void shutdown() {
+        saver.shutdown();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            logger.fine("JVM is shutting down, leaving the shutdown hook to run");
+        }
+    }
+
+    /**
+     * Parses a command, rejecting commands that change data in read-only mode.
+     */
+    private Command parseCommand(String fullCommand) throws QuotelyException {
+        Command command = Parser.parse(fullCommand, state, quoteList, maxItems);
+        if (dataMode == DataMode.READ_ONLY && command.isMutating()) {
+            throw new QuotelyException(QuotelyException.ErrorType.READ_ONLY_MODE);
+        }
+        return command;
+    }
+
+    private static DataMode parseDataMode(String[] args) {
+        List<String> flags = Arrays.asList(args);
+        if (flags.contains(READ_ONLY_FLAG)) {
+            return DataMode.READ_ONLY;
+        }
+        if (flags.contains(LAZY_FLAG)) {
+            return DataMode.LAZY;
+        }
+        return DataMode.IN_MEMORY;
+    }
+
+    /**
+     * Returns the file given after --script, or null if there is none.
+     */
+    private static Path parseScriptFile(String[] args) {
+        List<String> flags = Arrays.asList(args);
+        int index = flags.indexOf(SCRIPT_FLAG);
+        if (index < 0 || index + 1 >= args.length) {
+            return null;
+        }
+        return Paths.get(args[index + 1]);
+    }
+
+    /**
+     * Returns the number given after --max-items, 0 if there is no --max-items, or -1 if the number is not valid.
+     */
+    static int parseMaxItems(String[] args) {
+        List<String> flags = Arrays.asList(args);
+        int index = flags.indexOf(MAX_ITEMS_FLAG);
+        if (index < 0) {
+            return 0;
+        }
+        try {
+            int maxItems = index + 1 < args.length ? Integer.parseInt(args[index + 1]) : -1;
+            return maxItems > 0 ? maxItems : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 
     public static void main(String[] args) {
         // Initialize global logging configuration
         LoggerConfig.initializeGlobalLogging();
-
-        logger = LoggerConfig.getLogger(Quotely.class);
         logger.info("Starting Quotely application");
 
+        int maxItems = parseMaxItems(args);
+        if (maxItems < 0) {
+            Ui.getInstance().showError("Please give a positive number of items: --max-items NUMBER");
+            return;
+        }
+
+        Path scriptFile = parseScriptFile(args);
+        if (scriptFile == null && Arrays.asList(args).contains(SCRIPT_FLAG)) {
+            Ui.getInstance().showError("Please give the script file to run: --script FILE");
+            return;
+        }
+
         try {
-            new Quotely().run();
+            Quotely quotely = new Quotely(parseDataMode(args), maxItems > 0 ? maxItems : Parser.DEFAULT_MAX_ITEMS);
+            if (scriptFile == null) {
+                quotely.run();
+            } else if (quotely.runScript(scriptFile) != 0) {
+                logger.info("Quotely script finished with errors");
+                System.exit(1);
+            }
             logger.info("Quotely application finished successfully");
         } catch (Exception e) {
             logger.severe("Quotely application crashed: " + e.getMessage());
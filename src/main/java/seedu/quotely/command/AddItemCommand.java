@@ -2,10 +2,12 @@ package seedu.quotely.command;
 
 import seedu.quotely.ui.Ui;
 import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Money;
 import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.Quote;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JournalEntry;
 import seedu.quotely.util.LoggerConfig;
 
 import java.util.logging.Logger;
@@ -18,6 +20,9 @@ public class AddItemCommand extends Command {
     private Double price;
     private int quantity;
     private double taxRate;
+    // the amounts actually added and journaled, converted once so both are the same
+    private long priceCents;
+    private int taxBasisPoints;
 
     public AddItemCommand(String itemName, Quote quote, Double price, int quantity, double taxRate) {
         super(COMMAND_WORD);
@@ -26,6 +31,8 @@ public class AddItemCommand extends Command {
         this.price = price;
         this.quantity = quantity;
         this.taxRate = taxRate;
+        this.priceCents = Money.toCents(price);
+        this.taxBasisPoints = Money.toBasisPoints(taxRate);
     }
 
     @Override
@@ -46,10 +53,15 @@ public class AddItemCommand extends Command {
                         "Adding %s to quote %s with price %.2f, quantity %d, tax %.2f%%",
                         itemName, quote.getQuoteName(), price, quantity, taxRate));
       
-        quote.addItem(itemName, price, quantity, taxRate);
+        quote.addItemCents(itemName, priceCents, quantity, taxBasisPoints);
 
         logger.fine(String.format(
                 "Successfully added item %s to quote %s",
                 itemName, quote.getQuoteName()));
     }
+
+    @Override
+    public JournalEntry getJournalEntry() {
+        return JournalEntry.addItem(quote.getQuoteName(), itemName, priceCents, quantity, taxBasisPoints);
+    }
 }
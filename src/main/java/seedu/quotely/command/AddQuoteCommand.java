@@ -6,6 +6,7 @@ import seedu.quotely.data.Quote;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.QuoteList;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JournalEntry;
 import seedu.quotely.util.LoggerConfig;
 
 import java.util.logging.Logger;
@@ -48,4 +49,9 @@ public class AddQuoteCommand extends Command {
         ui.showMessage(String.format("Adding quote: %s for %s", quoteName, customerName));
         logger.fine(String.format("Successfully added quote: %s", quoteName));
     }
+
+    @Override
+    public JournalEntry getJournalEntry() {
+        return JournalEntry.addQuote(quoteName, customerName);
+    }
 }
@@ -0,0 +1,182 @@
+package seedu.quotely.command;
+
+import seedu.quotely.ui.Ui;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.Quote;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+import seedu.quotely.writer.PDFWriter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Exports every quote, or every quote whose name contains a search term, to its own PDF file.
+ * The PDFs are written concurrently by a fixed number of worker threads while this thread reports progress,
+ * and quotes that could not be exported are listed at the end.
+ */
+public class BatchExportCommand extends Command {
+    private static final String COMMAND_WORD = "export";
+    private static final Logger logger = LoggerConfig.getLogger(BatchExportCommand.class);
+    private static final int MAX_EXPORT_THREADS = 8;
+    // progress is reported about this many times per export
+    private static final int PROGRESS_STEPS = 10;
+
+    private String searchTerm;
+    private Path outputDirectory;
+    private List<String> failures = new ArrayList<>();
+    private int exportedCount;
+
+    /**
+     * @param searchTerm Only quotes whose name contains this are exported, or all quotes if null.
+     */
+    public BatchExportCommand(String searchTerm) {
+        this(searchTerm, Paths.get(""));
+    }
+
+    /**
+     * Creates a command that writes the PDFs into the given directory instead of the working directory.
+     */
+    BatchExportCommand(String searchTerm, Path outputDirectory) {
+        super(COMMAND_WORD);
+        this.searchTerm = searchTerm;
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * The result of exporting one quote.
+     */
+    private static class ExportResult {
+        private final Quote quote;
+        private final String filename;
+        private final Exception error;
+
+        private ExportResult(Quote quote, String filename, Exception error) {
+            this.quote = quote;
+            this.filename = filename;
+            this.error = error;
+        }
+    }
+
+    @Override
+    public void execute(Ui ui,
+                        QuoteList quoteList,
+                        CompanyName companyName,
+                        QuotelyState state) throws QuotelyException {
+        List<Quote> quotes = searchTerm == null
+                ? new ArrayList<>(quoteList.getQuotes())
+                : quoteList.searchQuote(searchTerm);
+        failures.clear();
+        exportedCount = 0;
+        if (quotes.isEmpty()) {
+            ui.showMessage("There are no quotes to export.");
+            return;
+        }
+
+        int threadCount = Math.min(quotes.size(),
+                Math.min(MAX_EXPORT_THREADS, Runtime.getRuntime().availableProcessors()));
+        logger.fine(String.format("Exporting %d quotes with %d threads", quotes.size(), threadCount));
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount, new ExportThreadFactory());
+        try {
+            CompletionService<ExportResult> completionService = new ExecutorCompletionService<>(pool);
+            CompanyName company = new CompanyName(companyName.getCompanyName());
+            submitAll(completionService, quotes, company);
+
+            int progressInterval = Math.max(1, quotes.size() / PROGRESS_STEPS);
+            for (int done = 1; done <= quotes.size(); done++) {
+                ExportResult result = completionService.take().get();
+                if (result.error == null) {
+                    exportedCount++;
+                } else {
+                    failures.add(result.quote.getQuoteName() + " (" + result.filename + "): "
+                            + result.error.getMessage());
+                    logger.warning("Failed to export quote " + result.quote.getQuoteName() + ": " + result.error);
+                }
+                if (done % progressInterval == 0 && done < quotes.size()) {
+                    ui.showMessage(String.format("Exported %d of %d quotes...", done, quotes.size()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Export was interrupted");
+        } catch (ExecutionException e) {
+            // tasks catch their own exceptions, so this is a bug
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        ui.showMessage(String.format("Exported %d of %d quotes to PDF.", exportedCount, quotes.size()));
+        if (!failures.isEmpty()) {
+            ui.showMessage(String.format("%d quotes could not be exported:", failures.size()));
+            for (String failure : failures) {
+                ui.showMessage(failure);
+            }
+        }
+    }
+
+    /**
+     * Queues one export per quote, giving quotes whose names map to the same file distinct file names.
+     */
+    private void submitAll(CompletionService<ExportResult> completionService, List<Quote> quotes,
+                           CompanyName companyName) {
+        PDFWriter pdfWriter = PDFWriter.getInstance();
+        Set<String> usedFilenames = new HashSet<>();
+        for (Quote quote : quotes) {
+            String filename = quote.getQuoteName();
+            for (int i = 2; !usedFilenames.add(pdfWriter.getSecureFilename(filename)); i++) {
+                filename = quote.getQuoteName() + "_" + i;
+            }
+            String exportFilename = filename;
+            completionService.submit(() -> {
+                try {
+                    pdfWriter.writeQuoteToFile(quote, companyName, outputDirectory, exportFilename);
+                    return new ExportResult(quote, pdfWriter.getSecureFilename(exportFilename), null);
+                } catch (Exception e) {
+                    return new ExportResult(quote, pdfWriter.getSecureFilename(exportFilename), e);
+                }
+            });
+        }
+    }
+
+    public int getExportedCount() {
+        return exportedCount;
+    }
+
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    /**
+     * Creates daemon threads, so an unfinished export never keeps the application running.
+     */
+    private static class ExportThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "quotely-export-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -41,4 +41,9 @@ public class CalculateTotalCommand extends Command {
                 String.format("Total cost of quote %s for %s: $%.2f", quote.getQuoteName(),
                         quote.getCustomerName(), quote.getQuoteTotal()));
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
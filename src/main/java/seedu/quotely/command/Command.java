@@ -5,6 +5,7 @@ import seedu.quotely.data.CompanyName;
 import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JournalEntry;
 
 public abstract class Command {
     protected String commandWord;
@@ -21,4 +22,21 @@ public abstract class Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true if executing this command changes data that is saved to file.
+     * Commands that only read data override this so that nothing is written to disk.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Returns the journal entry describing the change made by this command,
+     * or null if the change must be persisted with a full save instead.
+     * Only called after the command has executed successfully.
+     */
+    public JournalEntry getJournalEntry() {
+        return null;
+    }
 }
@@ -0,0 +1,65 @@
+package seedu.quotely.command;
+
+import seedu.quotely.ui.Ui;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Money;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Lists the quotes of a customer with their totals, and the totals of all of them.
+ * The quotes are looked up in the customer index of the quote list, and each quote keeps its own totals,
+ * so this takes time in the number of the customer's quotes rather than of all quotes.
+ */
+public class CustomerQuotesCommand extends Command {
+    private static final String COMMAND_WORD = "customer";
+    private static final Logger logger = LoggerConfig.getLogger(CustomerQuotesCommand.class);
+    private String customerName;
+
+    public CustomerQuotesCommand(String customerName) {
+        super(COMMAND_WORD);
+        this.customerName = customerName;
+    }
+
+    @Override
+    public void execute(Ui ui,
+                        QuoteList quoteList,
+                        CompanyName companyName,
+                        QuotelyState state) throws QuotelyException {
+        logger.fine("Executing CustomerQuotesCommand for customer " + customerName);
+        List<Quote> quotes = quoteList.getQuotesByCustomer(customerName);
+        if (quotes.isEmpty()) {
+            ui.showMessage("There are no quotes for customer " + customerName + ".");
+            return;
+        }
+
+        StringBuilder message = new StringBuilder("Quotes of customer " + customerName + ":");
+        long subtotalCents = 0;
+        long taxCents = 0;
+        for (int i = 0; i < quotes.size(); i++) {
+            Quote q = quotes.get(i);
+            subtotalCents += q.getQuoteSubtotalCents();
+            taxCents += q.getQuoteTaxCents();
+            message.append(String.format("%n%d. %s: $%s", i + 1, q.getQuoteName(),
+                    Money.format(q.getQuoteTotalCents())));
+        }
+        message.append(String.format("%nTotal of %d quotes: $%s (subtotal $%s, tax $%s)", quotes.size(),
+                Money.format(subtotalCents + taxCents), Money.format(subtotalCents), Money.format(taxCents)));
+        ui.showMessage(message.toString());
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -6,6 +6,7 @@ import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.Quote;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JournalEntry;
 import seedu.quotely.util.LoggerConfig;
 
 import java.util.logging.Logger;
@@ -38,4 +39,9 @@ public class DeleteItemCommand extends Command {
         ui.showMessage(String.format("Deleting item %s from quote %s", itemName, quote.getQuoteName()));
         logger.fine(String.format("Successfully deleted item: %s", itemName));
     }
+
+    @Override
+    public JournalEntry getJournalEntry() {
+        return JournalEntry.deleteItem(quote.getQuoteName(), itemName);
+    }
 }
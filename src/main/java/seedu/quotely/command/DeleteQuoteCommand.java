@@ -6,6 +6,7 @@ import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.Quote;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JournalEntry;
 import seedu.quotely.util.LoggerConfig;
 
 import java.util.logging.Logger;
@@ -40,4 +41,9 @@ public class DeleteQuoteCommand extends Command {
 
         logger.fine(String.format("Successfully removed quote: %s", quote.getQuoteName()));
     }
+
+    @Override
+    public JournalEntry getJournalEntry() {
+        return JournalEntry.deleteQuote(quote.getQuoteName());
+    }
 }
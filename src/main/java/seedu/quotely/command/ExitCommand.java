@@ -26,4 +26,8 @@ public class ExitCommand extends Command {
         return true;
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
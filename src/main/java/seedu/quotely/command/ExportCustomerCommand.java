@@ -0,0 +1,70 @@
+package seedu.quotely.command;
+
+import seedu.quotely.ui.Ui;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.Quote;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+import seedu.quotely.writer.PDFWriter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Exports every quote of a customer into a single PDF file, one quote per page.
+ */
+public class ExportCustomerCommand extends Command {
+    private static final String COMMAND_WORD = "export";
+    private static final Logger logger = LoggerConfig.getLogger(ExportCustomerCommand.class);
+    private String customerName;
+    private String filename;
+    private Path outputDirectory;
+
+    public ExportCustomerCommand(String customerName, String filename) {
+        this(customerName, filename, Paths.get(""));
+    }
+
+    /**
+     * Creates a command that writes the PDF into the given directory instead of the working directory.
+     */
+    ExportCustomerCommand(String customerName, String filename, Path outputDirectory) {
+        super(COMMAND_WORD);
+        this.customerName = customerName;
+        this.filename = filename;
+        this.outputDirectory = outputDirectory;
+    }
+
+    @Override
+    public void execute(Ui ui,
+                        QuoteList quoteList,
+                        CompanyName companyName,
+                        QuotelyState state) throws QuotelyException {
+        logger.fine(String.format("Executing ExportCustomerCommand for customer %s to %s", customerName, filename));
+        List<Quote> quotes = quoteList.getQuotesByCustomer(customerName);
+        if (quotes.isEmpty()) {
+            ui.showMessage("There are no quotes for customer " + customerName + " to export.");
+            return;
+        }
+        String writtenFilename = PDFWriter.getInstance().writeQuotesToFile(quotes, companyName, outputDirectory,
+                filename);
+        ui.showMessage(String.format("Exported %d quotes of customer %s to %s", quotes.size(), customerName,
+                writtenFilename));
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -31,7 +31,13 @@ public class ExportQuoteCommand extends Command {
 
         logger.fine(String.format("Executing ExportQuoteCommand of quote %s to %s", quote.getQuoteName(), filename));
         PDFWriter pdfWriter = PDFWriter.getInstance();
-        pdfWriter.writeQuoteToPDF(quote, companyName, filename);
+        String writtenFilename = pdfWriter.writeQuoteToFile(quote, companyName, filename);
+        ui.showMessage("Exporting quote: " + quote.getQuoteName() + " to " + writtenFilename);
         logger.fine(String.format("Successfully export quote: %s to %s.pdf", quote.getQuoteName(), filename));
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -29,4 +29,8 @@ public class FinishQuoteCommand extends Command {
         state.setOutsideQuote();
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -0,0 +1,211 @@
+package seedu.quotely.command;
+
+import seedu.quotely.ui.Ui;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Item;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.Quote;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.parser.CsvParser;
+import seedu.quotely.parser.Parser;
+import seedu.quotely.util.LoggerConfig;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Imports items from a CSV file, checked against the same limits as the add command.
+ * A row is either ITEM_NAME,PRICE,QUANTITY[,TAX_RATE] for the target quote, or
+ * QUOTE_NAME,CUSTOMER_NAME,ITEM_NAME,PRICE,QUANTITY[,TAX_RATE], creating the quote if it does not exist.
+ * The whole file is checked before any item is added, rows that fail a check are reported and skipped,
+ * and the accepted items are saved together.
+ */
+public class ImportCommand extends Command {
+    private static final String COMMAND_WORD = "import";
+    private static final Logger logger = LoggerConfig.getLogger(ImportCommand.class);
+    private static final int ITEM_COLUMNS = 3;
+    private static final int QUOTE_ITEM_COLUMNS = 5;
+    private static final String COMMENT_PREFIX = "#";
+    private static final String ROW_FORMAT =
+            "ITEM_NAME,PRICE,QUANTITY[,TAX_RATE] or QUOTE_NAME,CUSTOMER_NAME,ITEM_NAME,PRICE,QUANTITY[,TAX_RATE]";
+
+    private Path file;
+    private Quote quote;
+    private int maxItems;
+    private List<String> rejectedRows = new ArrayList<>();
+    private int importedCount;
+
+    public ImportCommand(Path file, Quote quote) {
+        this(file, quote, Parser.DEFAULT_MAX_ITEMS);
+    }
+
+    /**
+     * @param file CSV file to import.
+     * @param quote Quote that receives rows without a quote name, or null if every row names its quote.
+     * @param maxItems Number of items a quote can hold, as for the add command.
+     */
+    public ImportCommand(Path file, Quote quote, int maxItems) {
+        super(COMMAND_WORD);
+        assert maxItems > 0 : "Maximum number of items must be positive";
+        this.file = file;
+        this.quote = quote;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * A quote that receives items from the file.
+     */
+    private static class ImportTarget {
+        private final Quote quote;
+        private final boolean isNew;
+        private final int existingItemCount;
+        private final List<Item> items = new ArrayList<>();
+
+        private ImportTarget(Quote quote, boolean isNew) {
+            this.quote = quote;
+            this.isNew = isNew;
+            this.existingItemCount = isNew ? 0 : quote.getItemCount();
+        }
+    }
+
+    @Override
+    public void execute(Ui ui,
+                        QuoteList quoteList,
+                        CompanyName companyName,
+                        QuotelyState state) throws QuotelyException {
+        logger.fine("Executing ImportCommand for file " + file);
+        rejectedRows.clear();
+        Map<String, ImportTarget> targets = new LinkedHashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            int row = 0;
+            boolean isFirstRow = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.trim().isEmpty() || line.trim().startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                List<String> fields = CsvParser.parseLine(line);
+                if (isFirstRow && isHeader(fields)) {
+                    isFirstRow = false;
+                    continue;
+                }
+                isFirstRow = false;
+                try {
+                    readRow(fields, targets, quoteList);
+                } catch (QuotelyException e) {
+                    rejectedRows.add("Row " + row + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to read import file " + file + ": " + e.getMessage());
+            throw new QuotelyException(QuotelyException.ErrorType.FILE_ERROR);
+        }
+
+        // nothing is changed until the whole file was read
+        importedCount = 0;
+        for (ImportTarget target : targets.values()) {
+            if (target.isNew) {
+                quoteList.addQuote(target.quote);
+            }
+            for (Item item : target.items) {
+                target.quote.addItem(item);
+            }
+            importedCount += target.items.size();
+        }
+
+        ui.showMessage(String.format("Imported %d items into %d quotes from %s.",
+                importedCount, targets.size(), file));
+        if (!rejectedRows.isEmpty()) {
+            ui.showMessage(String.format("%d rows were rejected:", rejectedRows.size()));
+            for (String rejectedRow : rejectedRows) {
+                ui.showMessage(rejectedRow);
+            }
+        }
+        logger.fine(String.format("Imported %d items from %s, rejected %d rows",
+                importedCount, file, rejectedRows.size()));
+    }
+
+    /**
+     * Checks one row and adds its item to the items to import.
+     */
+    private void readRow(List<String> fields, Map<String, ImportTarget> targets, QuoteList quoteList)
+            throws QuotelyException {
+        int columns = fields.size();
+        int itemColumn;
+        if (columns == ITEM_COLUMNS || columns == ITEM_COLUMNS + 1) {
+            itemColumn = 0;
+        } else if (columns == QUOTE_ITEM_COLUMNS || columns == QUOTE_ITEM_COLUMNS + 1) {
+            itemColumn = 2;
+        } else {
+            throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT, ROW_FORMAT);
+        }
+
+        String itemName = fields.get(itemColumn);
+        Parser.checkItemName(itemName);
+        double price = Parser.parsePrice(fields.get(itemColumn + 1));
+        int quantity = Parser.parseQuantity(fields.get(itemColumn + 2));
+        String taxRateStr = columns > itemColumn + 3 ? fields.get(itemColumn + 3) : "";
+        double taxRate = taxRateStr.isEmpty() ? 0 : Parser.parseTaxRate(taxRateStr);
+
+        ImportTarget target = itemColumn == 0
+                ? getDefaultTarget(targets)
+                : getTarget(fields.get(0), fields.get(1), targets, quoteList);
+        Parser.checkItemCount(target.existingItemCount + target.items.size(), maxItems);
+        target.items.add(new Item(itemName, price, quantity, taxRate));
+    }
+
+    private ImportTarget getDefaultTarget(Map<String, ImportTarget> targets) throws QuotelyException {
+        if (quote == null) {
+            throw new QuotelyException(QuotelyException.ErrorType.NO_ACTIVE_QUOTE);
+        }
+        return targets.computeIfAbsent(toKey(quote.getQuoteName()), key -> new ImportTarget(quote, false));
+    }
+
+    private ImportTarget getTarget(String quoteName, String customerName, Map<String, ImportTarget> targets,
+                                   QuoteList quoteList) throws QuotelyException {
+        ImportTarget target = targets.get(toKey(quoteName));
+        if (target != null) {
+            return target;
+        }
+        if (quoteList.hasQuote(quoteName)) {
+            target = new ImportTarget(quoteList.getQuoteByName(quoteName), false);
+        } else {
+            Parser.checkQuoteName(quoteName);
+            Parser.checkCustomerName(customerName);
+            target = new ImportTarget(new Quote(quoteName, customerName), true);
+        }
+        targets.put(toKey(quoteName), target);
+        return target;
+    }
+
+    /**
+     * Returns true if the row is a header naming the columns, e.g. "item,price,quantity,tax".
+     */
+    private static boolean isHeader(List<String> fields) {
+        String first = fields.get(0).toLowerCase(Locale.ROOT);
+        return fields.size() > 1 && (first.equals("item") || first.equals("quote"));
+    }
+
+    private static String toKey(String quoteName) {
+        return quoteName.toLowerCase(Locale.ROOT);
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    public List<String> getRejectedRows() {
+        return rejectedRows;
+    }
+}
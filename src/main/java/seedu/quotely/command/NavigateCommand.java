@@ -55,4 +55,9 @@ public class NavigateCommand extends Command {
             state.setInsideQuote(quote);
         }
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -5,6 +5,7 @@ import seedu.quotely.data.CompanyName;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.QuoteList;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JournalEntry;
 import seedu.quotely.util.LoggerConfig;
 
 import java.util.logging.Logger;
@@ -29,4 +30,9 @@ public class RegisterCommand extends Command {
         logger.fine("Executing RegisterCommand");
         companyName.setCompanyName(newName);
     }
+
+    @Override
+    public JournalEntry getJournalEntry() {
+        return JournalEntry.registerCompany(newName);
+    }
 }
@@ -11,14 +11,31 @@ import seedu.quotely.util.LoggerConfig;
 import java.util.ArrayList;
 import java.util.logging.Logger;
 
+/**
+ * Shows the quotes whose quote or customer names contain a search term, or the quotes matching a query
+ * over quote, customer and item names (see SearchIndex).
+ */
 public class SearchQuoteCommand extends Command {
+    /**
+     * What the search term is matched against.
+     */
+    public enum SearchType {
+        QUOTE_NAME, CUSTOMER_NAME, QUERY
+    }
+
     private static final String COMMAND_WORD = "search";
     private static final Logger logger = LoggerConfig.getLogger(SearchQuoteCommand.class);
     private String quoteName;
+    private SearchType searchType;
 
     public SearchQuoteCommand(String quoteName) {
+        this(quoteName, SearchType.QUOTE_NAME);
+    }
+
+    public SearchQuoteCommand(String searchTerm, SearchType searchType) {
         super(COMMAND_WORD);
-        this.quoteName = quoteName;
+        this.quoteName = searchTerm;
+        this.searchType = searchType;
     }
 
     @Override
@@ -29,7 +46,7 @@ public class SearchQuoteCommand extends Command {
         logger.fine(String.format("Executing SearchQuoteCommand for: %s", quoteName));
 
         try {
-            ArrayList<Quote> searchFoundQuotes = quoteList.searchQuote(quoteName);
+            ArrayList<Quote> searchFoundQuotes = findQuotes(quoteList);
             if (searchFoundQuotes.isEmpty()) {
                 ui.showMessage("No matching quote found");
                 logger.info("SearchQuoteCommand executed with no matching quote found");
@@ -40,10 +57,32 @@ public class SearchQuoteCommand extends Command {
                 ui.showQuote(companyName, q);
                 logger.fine("SearchQuoteCommand executed and matching quote is shown to user");
             }
-            ui.showMessage("Successfully found quotes containing: " + quoteName);
+            ui.showMessage((searchType == SearchType.QUERY
+                    ? "Successfully found quotes matching: "
+                    : "Successfully found quotes containing: ") + quoteName);
             logger.info("SearchQuoteCommand executed with matching quotes found");
         } catch (QuotelyException e) {
             logger.severe("SearchQuoteCommand executed with unexpected exception: " + e.getMessage());
         }
     }
+
+    private ArrayList<Quote> findQuotes(QuoteList quoteList) throws QuotelyException {
+        switch (searchType) {
+        case CUSTOMER_NAME:
+            return quoteList.searchCustomer(quoteName);
+        case QUERY:
+            return quoteList.findQuotes(quoteName);
+        default:
+            return quoteList.searchQuote(quoteName);
+        }
+    }
+
+    public SearchType getSearchType() {
+        return searchType;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
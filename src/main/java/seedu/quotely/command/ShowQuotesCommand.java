@@ -11,12 +11,55 @@ import seedu.quotely.util.LoggerConfig;
 import java.util.List;
 import java.util.logging.Logger;
 
+/**
+ * Shows the quotes, all of them or one page, either as full quotes or as a compact table of one row per quote.
+ * Quotes are printed one at a time as they are formatted, so the first quote appears as soon as it is ready.
+ */
 public class ShowQuotesCommand extends Command {
+    /**
+     * The order quotes are shown in.
+     */
+    public enum SortOrder {
+        /** The order the quotes were added in. */
+        ADDED,
+        /** Largest total first, read from the quote list's total index. */
+        TOTAL,
+        /** Customer name, ignoring case, then the order added, read from the quote list's name index. */
+        CUSTOMER,
+        /** Quote name, ignoring case, read from the quote list's name index like CUSTOMER. */
+        NAME
+    }
+
+    /** Number of quotes on a page when only a page number is given. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
     private static final String COMMAND_WORD = "show";
     private static final Logger logger = LoggerConfig.getLogger(ShowQuotesCommand.class);
+    private SortOrder sortOrder;
+    // 1-based page to show, or 0 to show every quote
+    private int page;
+    private int pageSize;
+    private boolean isCompact;
 
     public ShowQuotesCommand() {
+        this(SortOrder.ADDED);
+    }
+
+    public ShowQuotesCommand(SortOrder sortOrder) {
+        this(sortOrder, 0, DEFAULT_PAGE_SIZE, false);
+    }
+
+    /**
+     * Creates a command showing one page of quotes, or every quote if page is 0.
+     */
+    public ShowQuotesCommand(SortOrder sortOrder, int page, int pageSize, boolean isCompact) {
         super(COMMAND_WORD);
+        assert page >= 0 : "Page cannot be negative";
+        assert pageSize > 0 : "Page size must be positive";
+        this.sortOrder = sortOrder;
+        this.page = page;
+        this.pageSize = pageSize;
+        this.isCompact = isCompact;
     }
 
     @Override
@@ -25,7 +68,7 @@ public class ShowQuotesCommand extends Command {
                         CompanyName companyName,
                         QuotelyState state) throws QuotelyException {
 
-        logger.fine("Executing ShowQuoteCommand");
+        logger.fine("Executing ShowQuoteCommand sorted by " + sortOrder + ", page " + page);
         List<Quote> quotes = quoteList.getQuotes();
 
         if (quotes == null || quotes.isEmpty()) {
@@ -34,10 +77,77 @@ public class ShowQuotesCommand extends Command {
             return;
         }
 
-        ui.showMessage("Displaying all quotes:\n");
+        int quoteCount = quotes.size();
+        int pageCount = (quoteCount + pageSize - 1) / pageSize;
+        int from = 0;
+        int to = quoteCount;
+        if (page > 0) {
+            if (page > pageCount) {
+                ui.showMessage(String.format("There is no page %d, the last page is %d.", page, pageCount));
+                return;
+            }
+            from = (page - 1) * pageSize;
+            to = Math.min(from + pageSize, quoteCount);
+        }
+
         logger.finer("ShowQuoteCommand executed with quotes");
-        for (Quote q : quotes) {
-            ui.showQuote(companyName, q);
+        if (isCompact) {
+            ui.showQuoteTableHeader();
+        } else {
+            ui.showMessage(page > 0 ? "Displaying quotes:\n" : "Displaying all quotes:\n");
+        }
+        int number = from;
+        for (Quote quote : getSortedQuotes(quoteList, from, to)) {
+            number++;
+            if (isCompact) {
+                ui.showQuoteRow(number, quote);
+            } else {
+                ui.showQuote(companyName, quote);
+            }
         }
+        if (page > 0) {
+            ui.showMessage(String.format("Page %d of %d (quotes %d-%d of %d)", page, pageCount, from + 1, to,
+                    quoteCount));
+        }
+        ui.showMessage(String.format("Total value of all %d quotes: $%.2f", quoteCount,
+                quoteList.getPortfolioTotal()));
+    }
+
+    /**
+     * Returns the quotes at positions from to to (exclusive) in the sort order, read from the indexes of the
+     * quote list without sorting and without collecting the quotes before from.
+     */
+    private List<Quote> getSortedQuotes(QuoteList quoteList, int from, int to) {
+        switch (sortOrder) {
+        case TOTAL:
+            return quoteList.getQuotesByTotal(from, to);
+        case CUSTOMER:
+            return quoteList.getQuotesByCustomer(from, to);
+        case NAME:
+            return quoteList.getQuotesByName(from, to);
+        default:
+            return quoteList.getQuotes().subList(from, to);
+        }
+    }
+
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isCompact() {
+        return isCompact;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 }
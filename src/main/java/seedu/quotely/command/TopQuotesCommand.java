@@ -0,0 +1,58 @@
+package seedu.quotely.command;
+
+import seedu.quotely.ui.Ui;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Money;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Lists the quotes with the largest totals, read from the total index of the quote list without sorting.
+ */
+public class TopQuotesCommand extends Command {
+    private static final String COMMAND_WORD = "top";
+    private static final Logger logger = LoggerConfig.getLogger(TopQuotesCommand.class);
+    private int count;
+
+    public TopQuotesCommand(int count) {
+        super(COMMAND_WORD);
+        assert count > 0 : "Number of quotes must be positive";
+        this.count = count;
+    }
+
+    @Override
+    public void execute(Ui ui,
+                        QuoteList quoteList,
+                        CompanyName companyName,
+                        QuotelyState state) throws QuotelyException {
+        logger.fine("Executing TopQuotesCommand for " + count + " quotes");
+        List<Quote> quotes = quoteList.getTopQuotesByTotal(count);
+        if (quotes.isEmpty()) {
+            ui.showMessage("No quotes to show.");
+            return;
+        }
+
+        StringBuilder message = new StringBuilder(String.format("Top %d quotes by total:", quotes.size()));
+        for (int i = 0; i < quotes.size(); i++) {
+            Quote q = quotes.get(i);
+            message.append(String.format("%n%d. %s for %s: $%s", i + 1, q.getQuoteName(), q.getCustomerName(),
+                    Money.format(q.getQuoteTotalCents())));
+        }
+        ui.showMessage(message.toString());
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
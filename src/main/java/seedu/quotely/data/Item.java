@@ -1,20 +1,44 @@
 package seedu.quotely.data;
 
+/**
+ * An item of a quote. The price is held in cents and the tax rate in basis points (see Money),
+ * so totals are exact. An item of a quote reads and writes its row of the quote's ItemStore;
+ * otherwise it holds its own values.
+ */
 public class Item {
     private String itemName;
-    private double price;
+    private long priceCents;
     private int quantity;
-    private double taxRate;
+    private int taxBasisPoints;
+    // decimal price and tax rate of data files saved before amounts were held as cents; converted by ensureValid()
+    private Double price;
+    private Double taxRate;
+    // the quote whose totals include this item, told about changes; null if not attached
+    private transient Quote quote;
+    // the store holding the values of this item and its row there, null if the item holds its own values
+    private transient ItemStore store;
+    private transient int row;
 
     public Item(String itemName, double price, int quantity, double taxRate) {
+        this(itemName, Money.toCents(price), quantity, Money.toBasisPoints(taxRate));
+    }
+
+    private Item(String itemName, long priceCents, int quantity, int taxBasisPoints) {
         this.itemName = itemName;
-        this.price = price;
+        this.priceCents = priceCents;
         this.quantity = quantity;
-        this.taxRate = taxRate;
+        this.taxBasisPoints = taxBasisPoints;
+    }
+
+    /**
+     * Creates an item from a price in cents and a tax rate in basis points.
+     */
+    public static Item ofCents(String itemName, long priceCents, int quantity, int taxBasisPoints) {
+        return new Item(itemName, priceCents, quantity, taxBasisPoints);
     }
 
     public String getItemName() {
-        return itemName;
+        return store == null ? itemName : store.getItemName(row);
     }
 
     /**
@@ -22,49 +46,155 @@ public class Item {
      */
 
     public void setItemName(String itemName) {
-        this.itemName = itemName;
+        String oldName = getItemName();
+        if (store == null) {
+            this.itemName = itemName;
+        } else {
+            store.setItemName(row, itemName);
+        }
+        notifyQuote(getItemTotalCents(), getItemScaledTax());
+        if (quote != null) {
+            quote.onItemRenamed(oldName, itemName);
+        }
     }
 
     public double getPrice() {
-        return price;
+        return Money.toDecimal(getPriceCents());
+    }
+
+    public long getPriceCents() {
+        return store == null ? priceCents : store.getPriceCents(row);
     }
 
     public void setPrice(double price) {
-        this.price = price;
+        long oldTotalCents = getItemTotalCents();
+        long oldScaledTax = getItemScaledTax();
+        if (store == null) {
+            this.priceCents = Money.toCents(price);
+        } else {
+            store.setPriceCents(row, Money.toCents(price));
+        }
+        notifyQuote(oldTotalCents, oldScaledTax);
     }
 
     public int getQuantity() {
-        return quantity;
+        return store == null ? quantity : store.getQuantity(row);
     }
 
     public void setQuantity(int quantity) {
-        this.quantity = quantity;
+        long oldTotalCents = getItemTotalCents();
+        long oldScaledTax = getItemScaledTax();
+        if (store == null) {
+            this.quantity = quantity;
+        } else {
+            store.setQuantity(row, quantity);
+        }
+        notifyQuote(oldTotalCents, oldScaledTax);
     }
 
     public boolean hasTax() {
-        return taxRate > 0;
+        return getTaxBasisPoints() > 0;
     }
 
     public double getTaxRate() {
-        return taxRate;
+        return Money.toPercent(getTaxBasisPoints());
+    }
+
+    public int getTaxBasisPoints() {
+        return store == null ? taxBasisPoints : store.getTaxBasisPoints(row);
     }
 
     public void setTax(double taxRate) {
-        this.taxRate = taxRate;
+        long oldScaledTax = getItemScaledTax();
+        if (store == null) {
+            this.taxBasisPoints = Money.toBasisPoints(taxRate);
+        } else {
+            store.setTaxBasisPoints(row, Money.toBasisPoints(taxRate));
+        }
+        notifyQuote(getItemTotalCents(), oldScaledTax);
     }
 
     public double getItemTotalPriceWithoutTax() {
-        return quantity * price;
+        return Money.toDecimal(getItemTotalCents());
     }
 
     public double getItemTotalTax() {
-        return quantity * price * taxRate / 100.0;
+        return Money.toDecimal(getItemScaledTax()) / Money.TAX_SCALE;
+    }
+
+    /**
+     * Returns the price of all units before tax, in cents.
+     */
+    public long getItemTotalCents() {
+        return Math.multiplyExact(getPriceCents(), (long) getQuantity());
+    }
+
+    /**
+     * Returns the exact tax of all units, scaled by Money.TAX_SCALE.
+     */
+    public long getItemScaledTax() {
+        return Money.scaledTax(getItemTotalCents(), getTaxBasisPoints());
+    }
+
+    void setQuote(Quote quote) {
+        this.quote = quote;
+    }
+
+    /**
+     * Makes this item read and write the given row of a store.
+     */
+    void bind(ItemStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    /**
+     * Makes this item hold the given values itself, once its row is removed from its store.
+     */
+    void unbind(String itemName, long priceCents, int quantity, int taxBasisPoints) {
+        this.itemName = itemName;
+        this.priceCents = priceCents;
+        this.quantity = quantity;
+        this.taxBasisPoints = taxBasisPoints;
+        this.store = null;
+    }
+
+    boolean isBound() {
+        return store != null;
+    }
+
+    /**
+     * Tells the quote of this item how much the item's totals changed, so it can keep its totals up to date.
+     */
+    private void notifyQuote(long oldTotalCents, long oldScaledTax) {
+        if (quote != null) {
+            quote.onItemChanged(getItemTotalCents() - oldTotalCents, getItemScaledTax() - oldScaledTax);
+        }
+    }
+
+    /**
+     * Converts the decimal price and tax rate of an item read from an older data file to cents and basis points.
+     * They are then left out when the item is saved again.
+     */
+    public void ensureValid() {
+        if (price != null) {
+            priceCents = Money.toCents(price);
+            price = null;
+        }
+        if (taxRate != null) {
+            taxBasisPoints = Money.toBasisPoints(taxRate);
+            taxRate = null;
+        }
     }
 
     public boolean isValid() {
+        return isValid(getItemName(), getPriceCents(), getQuantity(), getTaxBasisPoints());
+    }
+
+    static boolean isValid(String itemName, long priceCents, int quantity, int taxBasisPoints) {
         return itemName != null && !itemName.trim().isEmpty()
-                && price >= 0
+                && priceCents >= 0
                 && quantity > 0
-                && taxRate >= 0;
+                && taxBasisPoints >= 0;
     }
 }
@@ -0,0 +1,29 @@
+package seedu.quotely.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the items of a quote whose items were not read when the quote was created,
+ * e.g. a quote materialized from a memory-mapped data file.
+ */
+@FunctionalInterface
+public interface ItemLoader {
+    /**
+     * Returns the items of the quote. Called when they are first used, and again after the quote's items
+     * were unloaded (see LoadedQuoteCache), so it must return the same items each time.
+     */
+    List<Item> loadItems();
+
+    /**
+     * Returns the names of the items in order. Loads the items unless the loader can read the names alone,
+     * e.g. from a data file, which lets quotes be indexed by item name without loading their items.
+     */
+    default List<String> loadItemNames() {
+        List<String> names = new ArrayList<>();
+        for (Item item : loadItems()) {
+            names.add(item.getItemName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,377 @@
+package seedu.quotely.data;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The items of a quote, held column by column in parallel arrays rather than as one object per item,
+ * so totals and rendering walk contiguous memory and a stored item costs a few array slots.
+ *
+ * <p>As a {@code List<Item>} it hands out an Item for a row the first time the row is asked for. That Item reads
+ * and writes the row, and stays the same object while the row exists, so code using items keeps working;
+ * code that reads many items should use the column getters instead, which create no objects.
+ * An Item removed from the store takes its values with it and no longer reads the store.
+ *
+ * <p>Once a store has more than a few rows, lookups by name go through an index from each name to its first row.
+ * Appending and renaming rows keep the index exact in O(1). Inserting or removing a row in the middle only marks the
+ * entries from that row on as stale instead of renumbering every name; a lookup of a name before that row still
+ * takes O(1), and any other lookup rebuilds the index once in O(n). That is at most one rebuild per insert or remove,
+ * each of which already shifts the later rows of every column.
+ */
+public final class ItemStore extends AbstractList<Item> {
+    private static final int INITIAL_CAPACITY = 4;
+    // below this many rows, scanning the names is faster than keeping an index
+    private static final int NAME_INDEX_THRESHOLD = 16;
+
+    private String[] names;
+    private long[] priceCents;
+    private int[] quantities;
+    private int[] taxBasisPoints;
+    // the Items handed out for each row, null where none was asked for yet
+    private Item[] views;
+    private int size;
+    // the quote told about changes made through the Items of this store
+    private Quote owner;
+    // each name to its first row; null until a lookup needs it
+    private Map<String, Integer> nameIndex;
+    // the entries of nameIndex are exact for the names whose first row is before this row; later ones are stale
+    private int indexedRows;
+
+    public ItemStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private ItemStore(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        names = new String[initialCapacity];
+        priceCents = new long[initialCapacity];
+        quantities = new int[initialCapacity];
+        taxBasisPoints = new int[initialCapacity];
+        views = new Item[initialCapacity];
+    }
+
+    /**
+     * Creates a store holding the given items. Items that do not belong to another store become rows of this one.
+     */
+    public static ItemStore of(List<Item> items) {
+        if (items instanceof ItemStore) {
+            return (ItemStore) items;
+        }
+        ItemStore store = new ItemStore(items.size());
+        for (Item item : items) {
+            store.add(item);
+        }
+        return store;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the Item of a row, which reads and writes the row.
+     */
+    @Override
+    public synchronized Item get(int row) {
+        checkRow(row);
+        Item view = views[row];
+        if (view == null) {
+            view = Item.ofCents(null, 0, 0, 0);
+            view.bind(this, row);
+            view.setQuote(owner);
+            views[row] = view;
+        }
+        return view;
+    }
+
+    public String getItemName(int row) {
+        checkRow(row);
+        return names[row];
+    }
+
+    public long getPriceCents(int row) {
+        checkRow(row);
+        return priceCents[row];
+    }
+
+    public int getQuantity(int row) {
+        checkRow(row);
+        return quantities[row];
+    }
+
+    public int getTaxBasisPoints(int row) {
+        checkRow(row);
+        return taxBasisPoints[row];
+    }
+
+    /**
+     * Returns the price of all units of a row before tax, in cents.
+     */
+    public long getItemTotalCents(int row) {
+        checkRow(row);
+        return Math.multiplyExact(priceCents[row], (long) quantities[row]);
+    }
+
+    /**
+     * Returns the exact tax of all units of a row, scaled by Money.TAX_SCALE.
+     */
+    public long getItemScaledTax(int row) {
+        return Money.scaledTax(getItemTotalCents(row), taxBasisPoints[row]);
+    }
+
+    /**
+     * Returns the total of all rows before tax, in cents.
+     */
+    public long getSubtotalCents() {
+        long subtotalCents = 0;
+        for (int row = 0; row < size; row++) {
+            subtotalCents += Math.multiplyExact(priceCents[row], (long) quantities[row]);
+        }
+        return subtotalCents;
+    }
+
+    /**
+     * Returns the exact tax of all rows, scaled by Money.TAX_SCALE.
+     */
+    public long getScaledTax() {
+        long scaledTax = 0;
+        for (int row = 0; row < size; row++) {
+            scaledTax += Money.scaledTax(Math.multiplyExact(priceCents[row], (long) quantities[row]),
+                    taxBasisPoints[row]);
+        }
+        return scaledTax;
+    }
+
+    /**
+     * Returns the names of all rows in order.
+     */
+    public synchronized List<String> getItemNames() {
+        return Arrays.asList(Arrays.copyOf(names, size));
+    }
+
+    /**
+     * Returns the row of the first item with the given name, or -1 if there is none.
+     */
+    public synchronized int indexOfName(String itemName) {
+        if (nameIndex == null && size < NAME_INDEX_THRESHOLD) {
+            return findName(itemName, 0);
+        }
+        if (nameIndex != null) {
+            Integer first = nameIndex.get(itemName);
+            if (first != null && first < indexedRows) {
+                return first;
+            }
+        }
+        if (nameIndex == null || indexedRows < size) {
+            buildNameIndex();
+        }
+        return nameIndex.getOrDefault(itemName, -1);
+    }
+
+    private void buildNameIndex() {
+        nameIndex = new HashMap<>(size * 2);
+        for (int row = 0; row < size; row++) {
+            nameIndex.putIfAbsent(names[row], row);
+        }
+        indexedRows = size;
+    }
+
+    /**
+     * Adds a row without creating an Item for it.
+     */
+    public synchronized void addRow(String itemName, long cents, int quantity, int basisPoints) {
+        ensureCapacity(size + 1);
+        names[size] = itemName;
+        priceCents[size] = cents;
+        quantities[size] = quantity;
+        taxBasisPoints[size] = basisPoints;
+        if (nameIndex != null && indexedRows == size) {
+            nameIndex.putIfAbsent(itemName, size);
+            indexedRows++;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts an item at a row, moving the rows from there on down by one. The item becomes the Item of the new row
+     * unless it belongs to another store, in which case its values are copied.
+     */
+    @Override
+    public synchronized void add(int row, Item item) {
+        if (row < 0 || row > size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size + " items");
+        }
+        item.ensureValid();
+        if (row == size) {
+            addRow(item.getItemName(), item.getPriceCents(), item.getQuantity(), item.getTaxBasisPoints());
+        } else {
+            insertRow(row, item.getItemName(), item.getPriceCents(), item.getQuantity(), item.getTaxBasisPoints());
+        }
+        if (!item.isBound()) {
+            item.bind(this, row);
+            item.setQuote(owner);
+            views[row] = item;
+        }
+    }
+
+    private void insertRow(int row, String itemName, long cents, int quantity, int basisPoints) {
+        ensureCapacity(size + 1);
+        int moved = size - row;
+        System.arraycopy(names, row, names, row + 1, moved);
+        System.arraycopy(priceCents, row, priceCents, row + 1, moved);
+        System.arraycopy(quantities, row, quantities, row + 1, moved);
+        System.arraycopy(taxBasisPoints, row, taxBasisPoints, row + 1, moved);
+        System.arraycopy(views, row, views, row + 1, moved);
+        names[row] = itemName;
+        priceCents[row] = cents;
+        quantities[row] = quantity;
+        taxBasisPoints[row] = basisPoints;
+        views[row] = null;
+        indexedRows = Math.min(indexedRows, row);
+        size++;
+        for (int i = row + 1; i < size; i++) {
+            if (views[i] != null) {
+                views[i].bind(this, i);
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Removes a row and returns its Item, which keeps the values of the row.
+     */
+    @Override
+    public synchronized Item remove(int row) {
+        Item removed = get(row);
+        String name = names[row];
+        removed.unbind(name, priceCents[row], quantities[row], taxBasisPoints[row]);
+        int moved = size - row - 1;
+        System.arraycopy(names, row + 1, names, row, moved);
+        System.arraycopy(priceCents, row + 1, priceCents, row, moved);
+        System.arraycopy(quantities, row + 1, quantities, row, moved);
+        System.arraycopy(taxBasisPoints, row + 1, taxBasisPoints, row, moved);
+        System.arraycopy(views, row + 1, views, row, moved);
+        size--;
+        names[size] = null;
+        views[size] = null;
+        indexedRows = Math.min(indexedRows, row);
+        for (int i = row; i < size; i++) {
+            if (views[i] != null) {
+                views[i].bind(this, i);
+            }
+        }
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Returns a copy of the rows, without the Items handed out by this store.
+     */
+    public synchronized ItemStore copy() {
+        ItemStore copy = new ItemStore(size);
+        System.arraycopy(names, 0, copy.names, 0, size);
+        System.arraycopy(priceCents, 0, copy.priceCents, 0, size);
+        System.arraycopy(quantities, 0, copy.quantities, 0, size);
+        System.arraycopy(taxBasisPoints, 0, copy.taxBasisPoints, 0, size);
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Sets the quote whose totals include these items, which the Items of this store tell about changes.
+     */
+    synchronized void setOwner(Quote quote) {
+        owner = quote;
+        for (int row = 0; row < size; row++) {
+            if (views[row] != null) {
+                views[row].setQuote(quote);
+            }
+        }
+    }
+
+    synchronized void setItemName(int row, String itemName) {
+        checkRow(row);
+        String oldName = names[row];
+        names[row] = itemName;
+        if (nameIndex != null && indexedRows < size) {
+            // a stale index may hold names no longer stored, so it cannot tell whether names repeat
+            indexedRows = Math.min(indexedRows, row);
+        } else if (nameIndex != null && !oldName.equals(itemName)) {
+            boolean hasRepeatedNames = nameIndex.size() < size;
+            if (nameIndex.get(oldName) == row) {
+                unindexRow(oldName, row, hasRepeatedNames);
+            }
+            indexRow(itemName, row);
+        }
+    }
+
+    /**
+     * Records a row as the first row of its name unless the name appears in an earlier row.
+     */
+    private void indexRow(String itemName, int row) {
+        Integer first = nameIndex.get(itemName);
+        if (first == null || first > row) {
+            nameIndex.put(itemName, row);
+        }
+    }
+
+    /**
+     * Forgets the first row of a name that is no longer there, moving the name to its next row if it has one.
+     * Rows are only scanned if some name was stored more than once.
+     */
+    private void unindexRow(String itemName, int row, boolean hasRepeatedNames) {
+        int next = hasRepeatedNames ? findName(itemName, row) : -1;
+        if (next >= 0) {
+            nameIndex.put(itemName, next);
+        } else {
+            nameIndex.remove(itemName);
+        }
+    }
+
+    private int findName(String itemName, int fromRow) {
+        for (int row = fromRow; row < size; row++) {
+            if (names[row].equals(itemName)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    void setPriceCents(int row, long cents) {
+        checkRow(row);
+        priceCents[row] = cents;
+    }
+
+    void setQuantity(int row, int quantity) {
+        checkRow(row);
+        quantities[row] = quantity;
+    }
+
+    void setTaxBasisPoints(int row, int basisPoints) {
+        checkRow(row);
+        taxBasisPoints[row] = basisPoints;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= names.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, names.length * 2);
+        names = Arrays.copyOf(names, newCapacity);
+        priceCents = Arrays.copyOf(priceCents, newCapacity);
+        quantities = Arrays.copyOf(quantities, newCapacity);
+        taxBasisPoints = Arrays.copyOf(taxBasisPoints, newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size + " items");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.quotely.data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Bounds how many quotes backed by a data file keep their items in memory.
+ * When more quotes are used, the items of the least recently used ones are dropped,
+ * and read from the file again the next time they are used. Changed quotes are no longer
+ * backed by the file and are not counted.
+ */
+public class LoadedQuoteCache {
+    private static final Logger logger = LoggerConfig.getLogger(LoadedQuoteCache.class);
+
+    private final int capacity;
+    // access-ordered, so the first entry is the least recently used quote
+    private final Map<Quote, Boolean> loadedQuotes = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates a cache that keeps the items of at most the given number of quotes.
+     */
+    public LoadedQuoteCache(int capacity) {
+        assert capacity > 0 : "Cache capacity must be positive";
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of quotes whose items are held by this cache.
+     */
+    public synchronized int getLoadedCount() {
+        return loadedQuotes.size();
+    }
+
+    /**
+     * Marks the quote as the most recently used one, dropping the items of the least recently used
+     * quotes if there are more than the capacity.
+     */
+    synchronized void touch(Quote quote) {
+        loadedQuotes.put(quote, Boolean.TRUE);
+        Iterator<Quote> eldest = loadedQuotes.keySet().iterator();
+        while (loadedQuotes.size() > capacity) {
+            Quote evicted = eldest.next();
+            eldest.remove();
+            if (evicted.unloadItems()) {
+                logger.finest("Unloaded items of quote " + evicted.getQuoteName());
+            }
+        }
+    }
+
+    /**
+     * Stops tracking a quote, e.g. once it has been changed and must keep its items.
+     */
+    synchronized void remove(Quote quote) {
+        loadedQuotes.remove(quote);
+    }
+}
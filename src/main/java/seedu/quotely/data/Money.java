@@ -0,0 +1,71 @@
+package seedu.quotely.data;
+
+/**
+ * Fixed-point arithmetic for amounts of money held as a long number of cents, and tax rates held
+ * as an int number of basis points (1/100 of a percent, so 9.0% is 900).
+ * All methods work on primitives, so money arithmetic is exact and allocates nothing.
+ *
+ * <p>Tax on an amount is first kept exactly, scaled by {@link #TAX_SCALE} (cents x basis points),
+ * so that the tax of many items can be summed without rounding and rounded to cents once.
+ */
+public final class Money {
+    public static final int CENTS_PER_DOLLAR = 100;
+    public static final int BASIS_POINTS_PER_PERCENT = 100;
+    /** Basis points in 100%, i.e. the factor between scaled tax and cents. */
+    public static final long TAX_SCALE = 100L * BASIS_POINTS_PER_PERCENT;
+
+    private Money() {
+    }
+
+    /**
+     * Converts a decimal amount, e.g. 12.1, to cents, rounding half away from zero.
+     * Exact for any amount with at most 2 decimal places.
+     */
+    public static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts cents back to a decimal amount, e.g. for display.
+     */
+    public static double toDecimal(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Converts a percentage, e.g. 9.0, to basis points, rounding half away from zero.
+     */
+    public static int toBasisPoints(double percent) {
+        return (int) Math.round(percent * BASIS_POINTS_PER_PERCENT);
+    }
+
+    public static double toPercent(int basisPoints) {
+        return (double) basisPoints / BASIS_POINTS_PER_PERCENT;
+    }
+
+    /**
+     * Returns the tax on the given amount, scaled by TAX_SCALE so that it is exact.
+     *
+     * @throws ArithmeticException if the result does not fit in a long.
+     */
+    public static long scaledTax(long cents, int basisPoints) {
+        return Math.multiplyExact(cents, (long) basisPoints);
+    }
+
+    /**
+     * Rounds a scaled tax to cents, half up.
+     */
+    public static long roundScaledTax(long scaledTax) {
+        return Math.floorDiv(scaledTax + TAX_SCALE / 2, TAX_SCALE);
+    }
+
+    /**
+     * Formats cents as a decimal amount with two decimal places, e.g. 1210 as "12.10".
+     */
+    public static String format(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absolute = Math.abs(cents);
+        long fraction = absolute % CENTS_PER_DOLLAR;
+        return sign + absolute / CENTS_PER_DOLLAR + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.quotely.data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Quotes ordered by a key taken from each quote, such as its total or its name, and by the order they were added
+ * among equal keys. A quote whose key changes is moved to its new place in O(log n), so the first k quotes are read
+ * by walking the first k entries instead of sorting every quote.
+ *
+ * <p>Each quote is kept with the key it had when it was last placed, since the tree must find it by that key
+ * after the quote itself has changed.
+ *
+ * @param <K> The type of the key quotes are ordered by.
+ */
+public class OrderedQuoteIndex<K> {
+    private final Function<Quote, K> keyOf;
+    private final Comparator<K> keyOrder;
+    private final TreeSet<Entry<K>> entries;
+    private final Map<Quote, Entry<K>> entriesByQuote = new HashMap<>();
+    private long nextOrder;
+
+    private static class Entry<K> {
+        private final Quote quote;
+        private final K key;
+        private final long order;
+
+        private Entry(Quote quote, K key, long order) {
+            this.quote = quote;
+            this.key = key;
+            this.order = order;
+        }
+    }
+
+    /**
+     * Creates an empty index ordering quotes by the key keyOf returns, in the given order.
+     */
+    public OrderedQuoteIndex(Function<Quote, K> keyOf, Comparator<K> keyOrder) {
+        this.keyOf = keyOf;
+        this.keyOrder = keyOrder;
+        Comparator<Entry<K>> byKey = (a, b) -> keyOrder.compare(a.key, b.key);
+        this.entries = new TreeSet<>(byKey.thenComparingLong(e -> e.order));
+    }
+
+    /**
+     * Returns an empty index ordering quotes by their total including tax, largest first.
+     */
+    public static OrderedQuoteIndex<Long> byTotal() {
+        return new OrderedQuoteIndex<>(Quote::getQuoteTotalCents, Comparator.reverseOrder());
+    }
+
+    /**
+     * Returns an empty index ordering quotes by quote name, ignoring case.
+     */
+    public static OrderedQuoteIndex<String> byQuoteName() {
+        return new OrderedQuoteIndex<>(Quote::getQuoteName, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Returns an empty index ordering quotes by customer name, ignoring case.
+     */
+    public static OrderedQuoteIndex<String> byCustomerName() {
+        return new OrderedQuoteIndex<>(Quote::getCustomerName, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Returns the number of quotes in this index.
+     */
+    public int getQuoteCount() {
+        return entriesByQuote.size();
+    }
+
+    public void addQuote(Quote quote) {
+        assert !entriesByQuote.containsKey(quote) : "Quote is already indexed";
+        Entry<K> entry = new Entry<>(quote, keyOf.apply(quote), nextOrder++);
+        entries.add(entry);
+        entriesByQuote.put(quote, entry);
+    }
+
+    public void removeQuote(Quote quote) {
+        Entry<K> entry = entriesByQuote.remove(quote);
+        if (entry != null) {
+            entries.remove(entry);
+        }
+    }
+
+    /**
+     * Moves a quote to the place of its current key.
+     */
+    public void updateQuote(Quote quote) {
+        Entry<K> entry = entriesByQuote.get(quote);
+        if (entry == null) {
+            return;
+        }
+        K key = keyOf.apply(quote);
+        if (keyOrder.compare(key, entry.key) == 0) {
+            return;
+        }
+        entries.remove(entry);
+        Entry<K> moved = new Entry<>(quote, key, entry.order);
+        entries.add(moved);
+        entriesByQuote.put(quote, moved);
+    }
+
+    /**
+     * Returns the at most k first quotes in order.
+     */
+    public List<Quote> getFirst(int k) {
+        return getRange(0, k);
+    }
+
+    /**
+     * Returns the quotes from position from (inclusive) to position to (exclusive), at most as many as are indexed.
+     * The first from entries are walked past without being collected.
+     */
+    public List<Quote> getRange(int from, int to) {
+        List<Quote> result = new ArrayList<>(Math.max(0, Math.min(to, entries.size()) - from));
+        Iterator<Entry<K>> iterator = entries.iterator();
+        for (int i = 0; i < from && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        for (int i = from; i < to && iterator.hasNext(); i++) {
+            result.add(iterator.next().quote);
+        }
+        return result;
+    }
+
+    /**
+     * Returns every quote in order.
+     */
+    public List<Quote> getAll() {
+        return getFirst(entries.size());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.quotely.data;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import seedu.quotely.exception.QuotelyException;
@@ -8,11 +9,69 @@ import seedu.quotely.exception.QuotelyException;
 public class Quote {
     private String quoteName;
     private String customerName;
-    private List<Item> items = new ArrayList<>();
+    // an ItemStore, except right after Gson read the quote, until the items are first used
+    private List<Item> items = new ItemStore();
+    // reads the items from a data file; null once the quote is changed, as the file no longer matches it
+    private transient ItemLoader itemLoader;
+    // bounds how many file-backed quotes keep their items in memory, null if unbounded
+    private transient LoadedQuoteCache itemCache;
+    // running totals of the items, updated by every change so that reading them is O(1);
+    // the tax is kept exact (see Money) and rounded to cents when read
+    private transient long subtotalCents;
+    private transient long scaledTax;
+    // false until the totals are first computed, e.g. for quotes created by Gson or read from a data file
+    private transient boolean hasTotals;
+    // the number of items while they are not in memory, or -1 if it is not known without loading them
+    private transient int itemCount = -1;
+    // the list told about changes to the totals, null if this quote is not in a list
+    private transient QuoteList quoteList;
+    // copy of this quote handed out by snapshot() until the quote changes, null if there is none
+    private transient Quote snapshot;
 
     public Quote(String quoteName, String customerName) {
         this.customerName = customerName;
         this.quoteName = quoteName;
+        this.hasTotals = true;
+        ((ItemStore) items).setOwner(this);
+    }
+
+    /**
+     * Creates a quote whose items are loaded by the given loader the first time they are used.
+     */
+    public Quote(String quoteName, String customerName, ItemLoader itemLoader) {
+        this(quoteName, customerName, itemLoader, null);
+    }
+
+    /**
+     * Creates a quote whose items are loaded by the given loader when they are used, and
+     * dropped again when the cache evicts the quote, as long as the quote has not been changed.
+     */
+    public Quote(String quoteName, String customerName, ItemLoader itemLoader, LoadedQuoteCache itemCache) {
+        this(quoteName, customerName);
+        assert itemLoader != null : "Item loader cannot be null";
+        this.items = null;
+        this.itemLoader = itemLoader;
+        this.itemCache = itemCache;
+        this.hasTotals = false;
+    }
+
+    /**
+     * Creates a quote whose items are loaded like Quote(quoteName, customerName, itemLoader, itemCache),
+     * with the number of items and totals already known, e.g. read from a data file, so that reading them
+     * does not load the items.
+     *
+     * @param itemCount     The number of items.
+     * @param subtotalCents The total of all items before tax, in cents.
+     * @param scaledTax     The exact tax of all items, scaled by Money.TAX_SCALE.
+     */
+    public Quote(String quoteName, String customerName, ItemLoader itemLoader, LoadedQuoteCache itemCache,
+                 int itemCount, long subtotalCents, long scaledTax) {
+        this(quoteName, customerName, itemLoader, itemCache);
+        assert itemCount >= 0 : "Number of items cannot be negative";
+        this.itemCount = itemCount;
+        this.subtotalCents = subtotalCents;
+        this.scaledTax = scaledTax;
+        this.hasTotals = true;
     }
 
     public String getQuoteName() {
@@ -23,58 +82,358 @@ public class Quote {
         return customerName;
     }
 
+    /**
+     * Returns a read-only view of the items. Items are added and removed through this quote, e.g. with addItem(),
+     * so its totals and the indexes of its quote list stay up to date.
+     */
     public List<Item> getItems() {
-        return items;
+        return Collections.unmodifiableList(getItemStore());
     }
 
-    public double getQuoteTotalPriceWithoutTax() {
-        double quoteTotalPriceWithoutTax = 0;
-        for(Item item : items) {
-            quoteTotalPriceWithoutTax += item.getItemTotalPriceWithoutTax();
+    /**
+     * Returns the items like getItems(), as the store whose column getters read them without creating Items.
+     * Rows must not be added or removed through it, see getItems().
+     */
+    public ItemStore getItemStore() {
+        ItemStore loadedItems = loadItems();
+        LoadedQuoteCache cache = itemCache;
+        if (cache != null) {
+            // outside the lock on this quote, as the cache locks the quotes it evicts
+            cache.touch(this);
         }
-        return quoteTotalPriceWithoutTax;
+        return loadedItems;
     }
 
-    public double getQuoteTotalTax() {
-        double quoteTotalTax = 0;
-        for(Item item : items) {
-            quoteTotalTax += item.getItemTotalTax();
+    /**
+     * Returns the number of items. If the items are not in memory but their number is known, e.g. read from
+     * a data file, the items are not loaded.
+     */
+    public int getItemCount() {
+        synchronized (this) {
+            if (items != null) {
+                return loadItems().size();
+            }
+            if (itemCount >= 0) {
+                return itemCount;
+            }
+        }
+        // outside the lock, see getItemStore()
+        return getItemStore().size();
+    }
+
+    /**
+     * Returns the items like getItemStore(), for reading them once, e.g. to save them. If the items are not
+     * in memory, they are read with the item loader but not kept, and the quote does not count as used by the
+     * cache, so reading every quote this way does not keep every quote's items.
+     */
+    public ItemStore readItemStore() {
+        ItemLoader loader;
+        synchronized (this) {
+            if (items != null || itemLoader == null) {
+                return loadItems();
+            }
+            loader = itemLoader;
+        }
+        return ItemStore.of(loader.loadItems());
+    }
+
+    /**
+     * Returns the names of the items in order. If the items are not in memory, only their names are read
+     * from the item loader, and the quote does not count as used by the cache.
+     */
+    public List<String> getItemNames() {
+        ItemLoader loader;
+        synchronized (this) {
+            if (items != null || itemLoader == null) {
+                return loadItems().getItemNames();
+            }
+            loader = itemLoader;
+        }
+        return loader.loadItemNames();
+    }
+
+    /**
+     * Returns true if the items of this quote are in memory.
+     */
+    public synchronized boolean isLoaded() {
+        return items != null;
+    }
+
+    /**
+     * Drops the items of a quote that is backed by a data file and unchanged since it was read.
+     * Its totals are kept, and its items are read again when they are next used.
+     *
+     * @return true if the items were dropped.
+     */
+    public synchronized boolean unloadItems() {
+        if (itemLoader == null || items == null) {
+            return false;
+        }
+        if (!hasTotals) {
+            // computed from the field directly, since getItems() would mark the quote as used again
+            computeTotals((ItemStore) items);
+        }
+        itemCount = items.size();
+        items = null;
+        return true;
+    }
+
+    /**
+     * Returns the items as a store owned by this quote, reading them with the item loader if they are not in memory,
+     * or converting the list Gson read.
+     */
+    private synchronized ItemStore loadItems() {
+        if (items == null && itemLoader != null) {
+            ItemStore loadedItems = ItemStore.of(itemLoader.loadItems());
+            loadedItems.setOwner(this);
+            items = loadedItems;
+        } else if (items != null && !(items instanceof ItemStore)) {
+            List<Item> readItems = new ArrayList<>(items);
+            readItems.removeIf(item -> item == null);
+            ItemStore store = ItemStore.of(readItems);
+            store.setOwner(this);
+            items = store;
+        }
+        return (ItemStore) items;
+    }
+
+    /**
+     * Keeps the items in memory for good before they are changed, since they can no longer be read from the file,
+     * and drops the snapshot, which will no longer match.
+     */
+    private void detachFromFile() {
+        LoadedQuoteCache cache;
+        synchronized (this) {
+            snapshot = null;
+            loadItems();
+            itemLoader = null;
+            cache = itemCache;
+            itemCache = null;
+        }
+        if (cache != null) {
+            cache.remove(this);
+        }
+    }
+
+    /**
+     * Computes the totals from the items if they were not computed yet.
+     */
+    private void ensureTotals() {
+        synchronized (this) {
+            if (hasTotals) {
+                return;
+            }
+        }
+        // outside the lock, see getItems()
+        ItemStore loadedItems = getItemStore();
+        synchronized (this) {
+            if (!hasTotals) {
+                computeTotals(loadedItems);
+            }
+        }
+    }
+
+    private synchronized void computeTotals(ItemStore currentItems) {
+        subtotalCents = currentItems.getSubtotalCents();
+        scaledTax = currentItems.getScaledTax();
+        hasTotals = true;
+    }
+
+    /**
+     * Adds the change of an item's totals to the running totals, and passes the change
+     * of the quote's rounded totals on to the quote list.
+     */
+    private void changeTotals(long deltaSubtotalCents, long deltaScaledTax) {
+        QuoteList list;
+        long deltaTaxCents;
+        synchronized (this) {
+            if (!hasTotals) {
+                return; // computed from the items when first needed
+            }
+            long oldTaxCents = Money.roundScaledTax(scaledTax);
+            subtotalCents += deltaSubtotalCents;
+            scaledTax += deltaScaledTax;
+            deltaTaxCents = Money.roundScaledTax(scaledTax) - oldTaxCents;
+            list = quoteList;
+        }
+        if (list != null) {
+            list.onQuoteTotalsChanged(this, deltaSubtotalCents, deltaTaxCents);
+        }
+    }
+
+    /**
+     * Called by an item of this quote after one of its fields was changed.
+     */
+    void onItemChanged(long deltaSubtotalCents, long deltaScaledTax) {
+        detachFromFile();
+        changeTotals(deltaSubtotalCents, deltaScaledTax);
+    }
+
+    /**
+     * Called by an item of this quote after it was renamed.
+     */
+    void onItemRenamed(String oldName, String newName) {
+        QuoteList list = quoteList;
+        if (list != null) {
+            list.onItemRemoved(this, oldName);
+            list.onItemAdded(this, newName);
+        }
+    }
+
+    void setQuoteList(QuoteList quoteList) {
+        this.quoteList = quoteList;
+    }
+
+    /**
+     * Returns the total of all items before tax, in cents.
+     */
+    public long getQuoteSubtotalCents() {
+        ensureTotals();
+        synchronized (this) {
+            return subtotalCents;
+        }
+    }
+
+    /**
+     * Returns the tax of all items in cents, summed exactly and then rounded half up.
+     */
+    public long getQuoteTaxCents() {
+        ensureTotals();
+        synchronized (this) {
+            return Money.roundScaledTax(scaledTax);
         }
-        return quoteTotalTax;
+    }
+
+    public long getQuoteTotalCents() {
+        return getQuoteSubtotalCents() + getQuoteTaxCents();
+    }
+
+    public double getQuoteTotalPriceWithoutTax() {
+        return Money.toDecimal(getQuoteSubtotalCents());
+    }
+
+    public double getQuoteTotalTax() {
+        return Money.toDecimal(getQuoteTaxCents());
     }
 
     public double getQuoteTotal()  {
-        double quoteTotal = this.getQuoteTotalPriceWithoutTax() + this.getQuoteTotalTax();
-        return Math.round(quoteTotal * 100.0) / 100.0;
+        return Money.toDecimal(getQuoteTotalCents());
     }
 
     public void removeItem(String itemName) throws QuotelyException {
         int index = getItemIndex(itemName);
-        items.remove(index);
+        ensureTotals();
+        detachFromFile();
+        Item removed = getItemStore().remove(index);
+        removed.setQuote(null);
+        changeTotals(-removed.getItemTotalCents(), -removed.getItemScaledTax());
+        QuoteList list = quoteList;
+        if (list != null) {
+            list.onItemRemoved(this, removed.getItemName());
+        }
     }
 
     public void addItem(String itemName, double price, int quantity, double taxRate) {
-        items.add(new Item(itemName, price, quantity, taxRate));
+        addItemCents(itemName, Money.toCents(price), quantity, Money.toBasisPoints(taxRate));
+    }
+
+    /**
+     * Adds an item with a price in cents and a tax rate in basis points, without creating an Item for it.
+     */
+    public void addItemCents(String itemName, long priceCents, int quantity, int taxBasisPoints) {
+        ensureTotals();
+        detachFromFile();
+        ItemStore store = getItemStore();
+        store.addRow(itemName, priceCents, quantity, taxBasisPoints);
+        onItemAdded(store, store.size() - 1);
+    }
+
+    /**
+     * Adds an item that does not belong to any quote yet. It then reads and writes its row of this quote's items.
+     */
+    public void addItem(Item item) {
+        ensureTotals();
+        detachFromFile();
+        ItemStore store = getItemStore();
+        store.add(item);
+        onItemAdded(store, store.size() - 1);
+    }
+
+    private void onItemAdded(ItemStore store, int row) {
+        changeTotals(store.getItemTotalCents(row), store.getItemScaledTax(row));
+        QuoteList list = quoteList;
+        if (list != null) {
+            list.onItemAdded(this, store.getItemName(row));
+        }
     }
 
     private int getItemIndex(String itemName) throws QuotelyException {
-        int index = 0;
-        for (Item i : items) {
-            if (i.getItemName().equals(itemName)) {
-                return index;
-            }
-            index++;
+        int index = getItemStore().indexOfName(itemName);
+        if (index < 0) {
+            throw new QuotelyException(QuotelyException.ErrorType.ITEM_NOT_FOUND);
         }
-        throw new QuotelyException(QuotelyException.ErrorType.ITEM_NOT_FOUND);
+        return index;
     }
 
     public boolean hasItem(String itemName) {
-        for (Item i : items) {
-            if (i.getItemName().equals(itemName)) {
-                return true;
+        return getItemStore().indexOfName(itemName) >= 0;
+    }
+
+    /**
+     * Returns a deep copy of this quote, which does not share items with the original.
+     * If the items are not loaded, the copy reads them from the data file when they are used.
+     */
+    public Quote copy() {
+        synchronized (this) {
+            if (items == null && itemLoader != null) {
+                return copyWithLoader();
             }
         }
-        return false;
+        return copyItems();
+    }
+
+    /**
+     * Returns a copy of this quote that is not changed afterwards, e.g. to be saved in the background.
+     * The copy is handed out again until this quote changes, so saving the quote list copies only the items
+     * of quotes changed since the last save. A quote unchanged since it was read from a data file is copied
+     * without its items, which the copy reads from the file when it is saved.
+     */
+    Quote snapshot() {
+        synchronized (this) {
+            if (itemLoader != null) {
+                // not kept, as the copy would hold on to the items once it is saved
+                return copyWithLoader();
+            }
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        Quote copy = copyItems();
+        synchronized (this) {
+            snapshot = copy;
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a copy reading the same items from the data file, which cannot change under the loader.
+     */
+    private synchronized Quote copyWithLoader() {
+        Quote copy = new Quote(quoteName, customerName, itemLoader);
+        copy.itemCount = itemCount;
+        copy.subtotalCents = subtotalCents;
+        copy.scaledTax = scaledTax;
+        copy.hasTotals = hasTotals;
+        return copy;
+    }
+
+    private Quote copyItems() {
+        Quote copy = new Quote(quoteName, customerName);
+        ItemStore copiedItems = getItemStore().copy();
+        copiedItems.setOwner(copy);
+        copy.items = copiedItems;
+        copy.computeTotals(copiedItems);
+        return copy;
     }
 
     public String toString() {
@@ -82,22 +441,33 @@ public class Quote {
     }
 
     public boolean isValid() {
-        // check the items as well
-        for (Item item : items) {
-            if (!item.isValid()) {
+        // check the items as well, from their columns so no Items are created
+        ItemStore store = getItemStore();
+        for (int row = 0; row < store.size(); row++) {
+            if (!Item.isValid(store.getItemName(row), store.getPriceCents(row), store.getQuantity(row),
+                    store.getTaxBasisPoints(row))) {
                 return false;
             }
         }
         return quoteName != null && !quoteName.trim().isEmpty()
-                && customerName != null && !customerName.trim().isEmpty()
-                && items != null;
+                && customerName != null && !customerName.trim().isEmpty();
     }
     /**
-     * Ensures the Quote object is in a valid state by initializing items if necessary.
+     * Ensures the Quote object is in a valid state by initializing items if necessary,
+     * and converting items read from an older data file.
      */
     public void ensureValid() {
-        if (items == null) {
-            items = new ArrayList<>();
+        if (items == null && itemLoader == null) {
+            ItemStore store = new ItemStore();
+            store.setOwner(this);
+            items = store;
+        }
+        if (items != null && !(items instanceof ItemStore)) {
+            for (Item item : items) {
+                if (item != null) {
+                    item.ensureValid();
+                }
+            }
         }
     }
 }
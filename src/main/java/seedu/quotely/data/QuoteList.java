@@ -1,7 +1,16 @@
 package seedu.quotely.data;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.quotely.exception.QuotelyException;
@@ -9,28 +18,116 @@ import seedu.quotely.util.LoggerConfig;
 
 public class QuoteList {
     private static final Logger logger = LoggerConfig.getLogger(QuoteList.class);
-    private List<Quote> quotes = new ArrayList<>();
+    // the quotes in the order they were added, written to the data file: a read-only view of quoteIndex, or
+    // the list this QuoteList was created over (e.g. by Gson), which stays read-only until validate()
+    private List<Quote> quotes;
+
+    /**
+     * Case-folded quote name to quote, in the order the quotes were added. It holds the quotes of a modifiable
+     * list, so adding, finding and removing a quote take O(1), and every other index is updated in step.
+     * Transient so it is not written to the data file; rebuilt on validate().
+     */
+    private transient LinkedHashMap<String, Quote> quoteIndex = new LinkedHashMap<>();
+    // the read-only list quoteIndex was built from, see getQuoteIndex(); null for a modifiable list
+    private transient List<Quote> indexedQuotes;
+
+    // running totals of all quotes in cents, computed on first use and then updated by every change
+    private transient long portfolioSubtotalCents;
+    private transient long portfolioTaxCents;
+    private transient boolean hasPortfolioTotals;
+    // words of quote, customer and item names; built on the first search, then updated by every change
+    private transient SearchIndex searchIndex;
+    // trigrams of quote and customer names for substring searches; built on the first search like searchIndex
+    private transient TrigramIndex trigramIndex;
+    // case-folded customer name to that customer's quotes in the order they were added; built on first use
+    private transient Map<String, Set<Quote>> customerIndex;
+    // quotes ordered by total, largest first; built on first use, then moved as totals change
+    private transient OrderedQuoteIndex<Long> totalIndex;
+    // quotes ordered by quote name and by customer name, ignoring case; built on first use
+    private transient OrderedQuoteIndex<String> quoteNameOrder;
+    private transient OrderedQuoteIndex<String> customerNameOrder;
 
     public QuoteList() {
+        this.quotes = new OrderedQuotes(quoteIndex);
+    }
+
+    /**
+     * Creates a read-only QuoteList over an existing list of quotes, e.g. a view that materializes quotes
+     * as they are accessed. The name index is built on the first lookup. validate() checks the quotes
+     * and makes the list modifiable, e.g. for quotes read from a data file.
+     */
+    public QuoteList(List<Quote> quotes) {
+        assert quotes != null : "Quotes cannot be null";
+        this.quotes = quotes;
+        this.quoteIndex = null;
     }
 
+    /**
+     * Returns the quotes in the order they were added, as a read-only list; quotes are added and removed
+     * through addQuote() and removeQuote().
+     */
     public List<Quote> getQuotes() {
         return quotes;
     }
 
     public void addQuote(Quote quote) {
-        quotes.add(quote);
+        checkModifiable();
+        assert !hasQuote(quote.getQuoteName()) : "Quote names must be unique (case-insensitive)";
+        quoteIndex.put(toKey(quote.getQuoteName()), quote);
+        ((OrderedQuotes) quotes).onAdded(quote);
+        quote.setQuoteList(this);
+        if (searchIndex != null) {
+            searchIndex.addQuote(quote);
+        }
+        if (trigramIndex != null) {
+            trigramIndex.addQuote(quote);
+        }
+        if (customerIndex != null) {
+            addToCustomerIndex(quote);
+        }
+        if (totalIndex != null) {
+            totalIndex.addQuote(quote);
+        }
+        if (quoteNameOrder != null) {
+            quoteNameOrder.addQuote(quote);
+        }
+        if (customerNameOrder != null) {
+            customerNameOrder.addQuote(quote);
+        }
+        if (hasPortfolioTotals) {
+            onQuoteTotalsChanged(null, quote.getQuoteSubtotalCents(), quote.getQuoteTaxCents());
+        }
     }
 
     public void removeQuote(Quote quote) throws QuotelyException {
-        for (int i = 0; i < quotes.size(); i++) {
-            Quote currentQuote = quotes.get(i);
-
-            if (currentQuote.getQuoteName().equalsIgnoreCase(quote.getQuoteName())) {
-                quotes.remove(i);
-                logger.info("Successfully removed quote: " + currentQuote.getQuoteName());
-                return;
+        checkModifiable();
+        Quote currentQuote = quoteIndex.remove(toKey(quote.getQuoteName()));
+        if (currentQuote != null) {
+            ((OrderedQuotes) quotes).onRemoved(currentQuote);
+            currentQuote.setQuoteList(null);
+            if (searchIndex != null) {
+                searchIndex.removeQuote(currentQuote);
+            }
+            if (trigramIndex != null) {
+                trigramIndex.removeQuote(currentQuote);
+            }
+            if (customerIndex != null) {
+                removeFromCustomerIndex(currentQuote);
+            }
+            if (totalIndex != null) {
+                totalIndex.removeQuote(currentQuote);
+            }
+            if (quoteNameOrder != null) {
+                quoteNameOrder.removeQuote(currentQuote);
             }
+            if (customerNameOrder != null) {
+                customerNameOrder.removeQuote(currentQuote);
+            }
+            if (hasPortfolioTotals) {
+                onQuoteTotalsChanged(null, -currentQuote.getQuoteSubtotalCents(), -currentQuote.getQuoteTaxCents());
+            }
+            logger.info("Successfully removed quote: " + currentQuote.getQuoteName());
+            return;
         }
 
         logger.warning("Attempted to remove quote that does not exist: " + quote.getQuoteName());
@@ -38,45 +135,357 @@ public class QuoteList {
     }
 
     public Quote getQuoteByName(String quoteName) throws QuotelyException {
-        for (Quote q : quotes) {
-            if (q.getQuoteName().equalsIgnoreCase(quoteName)) {
-                return q;
-            }
+        Quote q = getQuoteIndex().get(toKey(quoteName));
+        if (q != null) {
+            return q;
         }
         logger.warning("Failed to find quote with name: " + quoteName);
         throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND);
     }
 
+    /**
+     * Returns the quotes whose names contain the search term, ignoring case, looked up in a trigram index.
+     */
     public ArrayList<Quote> searchQuote(String searchTerm) throws QuotelyException {
-        ArrayList<Quote> result = new ArrayList<>();
-        for (Quote q : quotes) {
-            if (q.getQuoteName().toLowerCase().contains(searchTerm.toLowerCase())) {
-                result.add(q);
-            }
+        return getTrigramIndex().search(TrigramIndex.Field.QUOTE_NAME, searchTerm);
+    }
+
+    /**
+     * Returns the quotes whose customer names contain the search term, ignoring case.
+     */
+    public ArrayList<Quote> searchCustomer(String searchTerm) {
+        return getTrigramIndex().search(TrigramIndex.Field.CUSTOMER_NAME, searchTerm);
+    }
+
+    /**
+     * Returns the quotes whose quote, customer or item names contain the words of the query, see SearchIndex.
+     * The index is built on the first search and then kept up to date, so a search does not scan every quote.
+     */
+    public ArrayList<Quote> findQuotes(String query) {
+        return getSearchIndex().search(query);
+    }
+
+    /**
+     * Returns the quotes of a customer in the order they were added, matching the name case-insensitively.
+     * They are looked up in an index from customer to quotes, so this takes time in the number of quotes returned.
+     */
+    public ArrayList<Quote> getQuotesByCustomer(String customerName) {
+        Set<Quote> customerQuotes = getCustomerIndex().get(toKey(customerName));
+        return customerQuotes == null ? new ArrayList<>() : new ArrayList<>(customerQuotes);
+    }
+
+    /**
+     * Returns the at most k quotes with the largest totals including tax, largest first, quotes with equal totals
+     * in the order they were added. They are read from an index kept in order as totals change, so nothing is sorted.
+     */
+    public List<Quote> getTopQuotesByTotal(int k) {
+        assert k >= 0 : "Number of quotes cannot be negative";
+        return getTotalIndex().getFirst(k);
+    }
+
+    /**
+     * Returns every quote, largest total first, see getTopQuotesByTotal().
+     */
+    public List<Quote> getQuotesByTotal() {
+        return getTotalIndex().getAll();
+    }
+
+    /**
+     * Returns the quotes from position from (inclusive) to position to (exclusive) largest total first,
+     * e.g. one page of them, see getTopQuotesByTotal().
+     */
+    public List<Quote> getQuotesByTotal(int from, int to) {
+        assert from >= 0 && from <= to : "Invalid range of quotes";
+        return getTotalIndex().getRange(from, to);
+    }
+
+    /**
+     * Returns the quotes from position from (inclusive) to position to (exclusive) by quote name, ignoring case,
+     * quotes with equal names in the order they were added. Like getTopQuotesByTotal(), they are read from an
+     * ordered index, so nothing is sorted.
+     */
+    public List<Quote> getQuotesByName(int from, int to) {
+        assert from >= 0 && from <= to : "Invalid range of quotes";
+        if (quoteNameOrder == null) {
+            quoteNameOrder = buildIndex(OrderedQuoteIndex.byQuoteName());
+        }
+        return quoteNameOrder.getRange(from, to);
+    }
+
+    /**
+     * Returns the quotes from position from (inclusive) to position to (exclusive) by customer name, ignoring case,
+     * see getQuotesByName().
+     */
+    public List<Quote> getQuotesByCustomer(int from, int to) {
+        assert from >= 0 && from <= to : "Invalid range of quotes";
+        if (customerNameOrder == null) {
+            customerNameOrder = buildIndex(OrderedQuoteIndex.byCustomerName());
         }
-        return result;
+        return customerNameOrder.getRange(from, to);
     }
 
     public boolean hasQuote(String quoteName) {
+        return getQuoteIndex().containsKey(toKey(quoteName));
+    }
+
+    /**
+     * Returns a deep copy of this list, e.g. to be saved in the background while
+     * the original keeps changing.
+     */
+    public QuoteList copy() {
+        QuoteList copy = new QuoteList();
         for (Quote q : quotes) {
-            if (q.getQuoteName().equalsIgnoreCase(quoteName)) {
-                return true;
-            }
+            copy.addQuote(q.copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a read-only copy of this list that is not changed afterwards, e.g. to be saved in the background
+     * while the original keeps changing. Each quote is copied by Quote.snapshot(), which reuses the copy of a quote
+     * that has not changed since, so only the items of changed quotes are copied.
+     */
+    public QuoteList snapshot() {
+        List<Quote> copies = new ArrayList<>(quotes.size());
+        for (Quote q : quotes) {
+            copies.add(q.snapshot());
         }
-        return false;
+        return new QuoteList(Collections.unmodifiableList(copies));
     }
 
+    /**
+     * Drops invalid quotes and quotes named like an earlier quote, e.g. after the list was read from a data file,
+     * and makes the list modifiable.
+     */
     public void validate() {
-        List<Quote> validQuotes = new ArrayList<>();
+        LinkedHashMap<String, Quote> validIndex = new LinkedHashMap<>();
         for (Quote q : quotes) {
             q.ensureValid();
-            if (q.isValid()) {
-                validQuotes.add(q);
-            } else {
-                logger.warning("Invalid quote found and removed during validation: " + 
+            if (!q.isValid()) {
+                logger.warning("Invalid quote found and removed during validation: " +
                     (q.getQuoteName() != null ? q.getQuoteName() : "<null>"));
+            } else if (validIndex.putIfAbsent(toKey(q.getQuoteName()), q) != null) {
+                logger.warning("Duplicate quote found and removed during validation: " + q.getQuoteName());
+            } else {
+                // so that changes to the quote are reported to the indexes of this list
+                q.setQuoteList(this);
+            }
+        }
+        this.quoteIndex = validIndex;
+        this.indexedQuotes = null;
+        this.quotes = new OrderedQuotes(validIndex);
+        this.hasPortfolioTotals = false;
+        this.searchIndex = null;
+        this.trigramIndex = null;
+        this.customerIndex = null;
+        this.totalIndex = null;
+        this.quoteNameOrder = null;
+        this.customerNameOrder = null;
+    }
+
+    /**
+     * Returns the total value of all quotes including tax in cents, i.e. the sum of their totals.
+     * Computed once from the quote totals, then kept up to date as quotes and items change.
+     */
+    public long getPortfolioTotalCents() {
+        ensurePortfolioTotals();
+        return portfolioSubtotalCents + portfolioTaxCents;
+    }
+
+    public double getPortfolioTotalWithoutTax() {
+        ensurePortfolioTotals();
+        return Money.toDecimal(portfolioSubtotalCents);
+    }
+
+    public double getPortfolioTotalTax() {
+        ensurePortfolioTotals();
+        return Money.toDecimal(portfolioTaxCents);
+    }
+
+    public double getPortfolioTotal() {
+        return Money.toDecimal(getPortfolioTotalCents());
+    }
+
+    /**
+     * Called by a quote of this list when its totals change, or with no quote when one is added or removed.
+     */
+    void onQuoteTotalsChanged(Quote quote, long deltaSubtotalCents, long deltaTaxCents) {
+        if (hasPortfolioTotals) {
+            portfolioSubtotalCents += deltaSubtotalCents;
+            portfolioTaxCents += deltaTaxCents;
+        }
+        if (quote != null && totalIndex != null) {
+            totalIndex.updateQuote(quote);
+        }
+    }
+
+    /**
+     * Called by a quote of this list after an item was added to it.
+     */
+    void onItemAdded(Quote quote, String itemName) {
+        if (searchIndex != null) {
+            searchIndex.addItem(quote, itemName);
+        }
+    }
+
+    /**
+     * Called by a quote of this list after an item was removed from it.
+     */
+    void onItemRemoved(Quote quote, String itemName) {
+        if (searchIndex != null) {
+            searchIndex.removeItem(quote, itemName);
+        }
+    }
+
+    private SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex();
+            for (Quote q : quotes) {
+                searchIndex.addQuote(q);
+            }
+        }
+        return searchIndex;
+    }
+
+    private TrigramIndex getTrigramIndex() {
+        if (trigramIndex == null) {
+            trigramIndex = new TrigramIndex();
+            for (Quote q : quotes) {
+                trigramIndex.addQuote(q);
+            }
+        }
+        return trigramIndex;
+    }
+
+    private Map<String, Set<Quote>> getCustomerIndex() {
+        if (customerIndex == null) {
+            customerIndex = new HashMap<>();
+            for (Quote q : quotes) {
+                addToCustomerIndex(q);
+            }
+        }
+        return customerIndex;
+    }
+
+    private void addToCustomerIndex(Quote quote) {
+        customerIndex.computeIfAbsent(toKey(quote.getCustomerName()), key -> new LinkedHashSet<>()).add(quote);
+    }
+
+    private void removeFromCustomerIndex(Quote quote) {
+        String key = toKey(quote.getCustomerName());
+        Set<Quote> customerQuotes = customerIndex.get(key);
+        if (customerQuotes != null && customerQuotes.remove(quote) && customerQuotes.isEmpty()) {
+            customerIndex.remove(key);
+        }
+    }
+
+    private OrderedQuoteIndex<Long> getTotalIndex() {
+        if (totalIndex == null) {
+            totalIndex = buildIndex(OrderedQuoteIndex.byTotal());
+        }
+        return totalIndex;
+    }
+
+    private <K> OrderedQuoteIndex<K> buildIndex(OrderedQuoteIndex<K> index) {
+        for (Quote q : quotes) {
+            index.addQuote(q);
+        }
+        return index;
+    }
+
+    private void ensurePortfolioTotals() {
+        if (hasPortfolioTotals) {
+            return;
+        }
+        long subtotalCents = 0;
+        long taxCents = 0;
+        for (Quote q : quotes) {
+            subtotalCents += q.getQuoteSubtotalCents();
+            taxCents += q.getQuoteTaxCents();
+        }
+        portfolioSubtotalCents = subtotalCents;
+        portfolioTaxCents = taxCents;
+        hasPortfolioTotals = true;
+    }
+
+    /**
+     * Returns the name index. A modifiable list keeps it in step with every change. A read-only list, including
+     * one Gson read before validate() replaced the index the constructor created, gets an index built from its
+     * quotes on the first lookup; the list cannot change afterwards.
+     */
+    private Map<String, Quote> getQuoteIndex() {
+        if (!(quotes instanceof OrderedQuotes) && indexedQuotes != quotes) {
+            LinkedHashMap<String, Quote> index = new LinkedHashMap<>();
+            for (Quote q : quotes) {
+                index.putIfAbsent(toKey(q.getQuoteName()), q);
+            }
+            quoteIndex = index;
+            indexedQuotes = quotes;
+        }
+        return quoteIndex;
+    }
+
+    private void checkModifiable() {
+        if (!(quotes instanceof OrderedQuotes)) {
+            throw new UnsupportedOperationException("Quotes of a read-only list cannot be changed");
+        }
+    }
+
+    private static String toKey(String quoteName) {
+        return quoteName == null ? null : quoteName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The quotes of a name index in the order they were added, as a read-only list. Iterating takes O(1)
+     * per quote. get(index) reads a list of the quotes by position, built on first use and then kept in step:
+     * adding a quote appends it in O(1), and removing one shifts the quotes after it, so reading a page with
+     * subList() does not copy the whole book after every change.
+     */
+    private static class OrderedQuotes extends AbstractList<Quote> {
+        private final Map<String, Quote> index;
+        // the quotes in order, null until get() is first called
+        private ArrayList<Quote> ordered;
+
+        private OrderedQuotes(Map<String, Quote> index) {
+            this.index = index;
+        }
+
+        @Override
+        public Quote get(int position) {
+            if (ordered == null) {
+                ordered = new ArrayList<>(index.values());
+            }
+            return ordered.get(position);
+        }
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public Iterator<Quote> iterator() {
+            return Collections.unmodifiableCollection(index.values()).iterator();
+        }
+
+        private void onAdded(Quote quote) {
+            if (ordered != null) {
+                ordered.add(quote);
+            }
+            modCount++;
+        }
+
+        private void onRemoved(Quote quote) {
+            if (ordered != null) {
+                // by identity, searching from the end since recent quotes are the likeliest to be removed
+                for (int i = ordered.size() - 1; i >= 0; i--) {
+                    if (ordered.get(i) == quote) {
+                        ordered.remove(i);
+                        break;
+                    }
+                }
             }
+            modCount++;
         }
-        this.quotes = validQuotes;
     }
 }
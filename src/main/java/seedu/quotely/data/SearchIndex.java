@@ -0,0 +1,210 @@
+package seedu.quotely.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the words of quote names, customer names and item names to the quotes containing them.
+ * A word is a run of letters and digits, compared ignoring case.
+ *
+ * <p>A query is a list of terms that must all match, and "OR" between such lists matches quotes that match any
+ * of them, e.g. {@code desk chair OR lamp}. A term matches a word in any field, unless it is prefixed with
+ * {@code n:} (quote name), {@code c:} (customer name) or {@code i:} (item name), e.g. {@code c:acme i:desk}.
+ */
+public class SearchIndex {
+    /**
+     * The parts of a quote that are indexed.
+     */
+    public enum Field {
+        QUOTE_NAME, CUSTOMER_NAME, ITEM_NAME
+    }
+
+    private static final String OR_KEYWORD = "or";
+
+    // word to the quotes containing it, with how often it occurs, since several items can share a word
+    private final Map<Field, Map<String, Map<Quote, Integer>>> postings = new EnumMap<>(Field.class);
+    // the order quotes were indexed in, so results are listed in the order of the quote list
+    private final Map<Quote, Long> order = new HashMap<>();
+    private long nextOrder;
+
+    public SearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the number of quotes in this index.
+     */
+    public int getQuoteCount() {
+        return order.size();
+    }
+
+    public void addQuote(Quote quote) {
+        assert !order.containsKey(quote) : "Quote is already indexed";
+        order.put(quote, nextOrder++);
+        addWords(Field.QUOTE_NAME, quote, quote.getQuoteName());
+        addWords(Field.CUSTOMER_NAME, quote, quote.getCustomerName());
+        // read without loading items that are not in memory, e.g. in lazy mode
+        for (String itemName : quote.getItemNames()) {
+            addWords(Field.ITEM_NAME, quote, itemName);
+        }
+    }
+
+    public void removeQuote(Quote quote) {
+        if (order.remove(quote) == null) {
+            return;
+        }
+        removeWords(Field.QUOTE_NAME, quote, quote.getQuoteName());
+        removeWords(Field.CUSTOMER_NAME, quote, quote.getCustomerName());
+        for (String itemName : quote.getItemNames()) {
+            removeWords(Field.ITEM_NAME, quote, itemName);
+        }
+    }
+
+    public void addItem(Quote quote, String itemName) {
+        addWords(Field.ITEM_NAME, quote, itemName);
+    }
+
+    public void removeItem(Quote quote, String itemName) {
+        removeWords(Field.ITEM_NAME, quote, itemName);
+    }
+
+    /**
+     * Returns the quotes matching the query in the order they were indexed.
+     */
+    public ArrayList<Quote> search(String query) {
+        Set<Quote> matches = new HashSet<>();
+        List<String> terms = new ArrayList<>();
+        for (String term : query.trim().split("\\s+")) {
+            if (term.equalsIgnoreCase(OR_KEYWORD)) {
+                matches.addAll(matchAll(terms));
+                terms.clear();
+            } else if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        matches.addAll(matchAll(terms));
+
+        ArrayList<Quote> result = new ArrayList<>(matches);
+        result.sort(Comparator.comparing(order::get));
+        return result;
+    }
+
+    /**
+     * Returns the quotes matching every term, or no quotes if there are no terms.
+     */
+    private Set<Quote> matchAll(List<String> terms) {
+        List<Set<Quote>> termMatches = new ArrayList<>();
+        for (String term : terms) {
+            for (Set<Quote> wordMatches : matchTerm(term)) {
+                termMatches.add(wordMatches);
+            }
+        }
+        if (termMatches.isEmpty()) {
+            return Collections.emptySet();
+        }
+        // intersect starting from the smallest set, which bounds the work
+        termMatches.sort(Comparator.comparingInt(Set::size));
+        Set<Quote> result = new HashSet<>(termMatches.get(0));
+        for (int i = 1; i < termMatches.size() && !result.isEmpty(); i++) {
+            result.retainAll(termMatches.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns, for every word of the term, the quotes containing it in the term's field or in any field.
+     */
+    private List<Set<Quote>> matchTerm(String term) {
+        Field field = null;
+        String text = term;
+        if (term.length() > 2 && term.charAt(1) == ':') {
+            field = toField(Character.toLowerCase(term.charAt(0)));
+            if (field != null) {
+                text = term.substring(2);
+            }
+        }
+        List<Set<Quote>> result = new ArrayList<>();
+        for (String word : tokenize(text)) {
+            if (field != null) {
+                result.add(getQuotes(field, word));
+                continue;
+            }
+            Set<Quote> anyField = new HashSet<>();
+            for (Field f : Field.values()) {
+                anyField.addAll(getQuotes(f, word));
+            }
+            result.add(anyField);
+        }
+        return result;
+    }
+
+    private static Field toField(char prefix) {
+        switch (prefix) {
+        case 'n':
+            return Field.QUOTE_NAME;
+        case 'c':
+            return Field.CUSTOMER_NAME;
+        case 'i':
+            return Field.ITEM_NAME;
+        default:
+            return null;
+        }
+    }
+
+    private Set<Quote> getQuotes(Field field, String word) {
+        Map<Quote, Integer> quotes = postings.get(field).get(word);
+        return quotes == null ? Collections.emptySet() : quotes.keySet();
+    }
+
+    private void addWords(Field field, Quote quote, String text) {
+        Map<String, Map<Quote, Integer>> fieldPostings = postings.get(field);
+        for (String word : tokenize(text)) {
+            fieldPostings.computeIfAbsent(word, w -> new HashMap<>()).merge(quote, 1, Integer::sum);
+        }
+    }
+
+    private void removeWords(Field field, Quote quote, String text) {
+        Map<String, Map<Quote, Integer>> fieldPostings = postings.get(field);
+        for (String word : tokenize(text)) {
+            Map<Quote, Integer> quotes = fieldPostings.get(word);
+            if (quotes == null) {
+                continue;
+            }
+            quotes.computeIfPresent(quote, (q, count) -> count > 1 ? count - 1 : null);
+            if (quotes.isEmpty()) {
+                fieldPostings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Splits text into lower-case words made of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
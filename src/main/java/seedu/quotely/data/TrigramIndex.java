@@ -0,0 +1,218 @@
+package seedu.quotely.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the quotes whose quote or customer name contains a string, ignoring case, without scanning every quote.
+ * Every name is split into its trigrams (runs of three characters), and each trigram maps to the ids of the quotes
+ * whose name contains it. A name containing the search string contains all of its trigrams, so only the quotes in
+ * the intersection of their id lists are checked. Strings shorter than a trigram are matched by a scan of the
+ * names, which this index keeps in lower case so they are not converted on every search.
+ *
+ * <p>Ids are given out in the order quotes are added, so every id list is sorted and results come out in that
+ * order without sorting.
+ */
+public class TrigramIndex {
+    /**
+     * The names of a quote that are indexed.
+     */
+    public enum Field {
+        QUOTE_NAME, CUSTOMER_NAME
+    }
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Field, Map<Long, IdList>> postings = new EnumMap<>(Field.class);
+    // quotes and their lower-case names by id, null where a quote was removed
+    private final List<Quote> quotes = new ArrayList<>();
+    private final Map<Field, List<String>> names = new EnumMap<>(Field.class);
+    private final Map<Quote, Integer> ids = new HashMap<>();
+
+    /**
+     * A growable, sorted list of quote ids.
+     */
+    private static class IdList {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            // a name can contain a trigram more than once, and its id is always the largest so far
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        private boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+
+    public TrigramIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+            names.put(field, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Returns the number of quotes in this index.
+     */
+    public int getQuoteCount() {
+        return ids.size();
+    }
+
+    public void addQuote(Quote quote) {
+        assert !ids.containsKey(quote) : "Quote is already indexed";
+        int id = quotes.size();
+        quotes.add(quote);
+        ids.put(quote, id);
+        addNames(id, toLowerCase(quote.getQuoteName()), toLowerCase(quote.getCustomerName()));
+    }
+
+    public void removeQuote(Quote quote) {
+        Integer id = ids.remove(quote);
+        if (id == null) {
+            return;
+        }
+        quotes.set(id, null);
+        for (Field field : Field.values()) {
+            Map<Long, IdList> fieldPostings = postings.get(field);
+            String name = names.get(field).set(id, null);
+            for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+                IdList idList = fieldPostings.get(gramAt(name, i));
+                if (idList != null) {
+                    idList.remove(id);
+                }
+            }
+        }
+        if (quotes.size() > 2 * ids.size() + 16) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the quotes whose name in the given field contains the search term, ignoring case,
+     * in the order they were added.
+     */
+    public ArrayList<Quote> search(Field field, String searchTerm) {
+        String term = toLowerCase(searchTerm);
+        List<String> fieldNames = names.get(field);
+        ArrayList<Quote> result = new ArrayList<>();
+        if (term.length() < GRAM_LENGTH) {
+            for (int id = 0; id < fieldNames.size(); id++) {
+                String name = fieldNames.get(id);
+                if (name != null && name.contains(term)) {
+                    result.add(quotes.get(id));
+                }
+            }
+            return result;
+        }
+
+        List<IdList> gramMatches = new ArrayList<>();
+        for (long gram : trigrams(term)) {
+            IdList idList = postings.get(field).get(gram);
+            if (idList == null || idList.size == 0) {
+                return result;
+            }
+            gramMatches.add(idList);
+        }
+        // only the shortest list is walked; the others are looked up
+        gramMatches.sort(Comparator.comparingInt(idList -> idList.size));
+        IdList shortest = gramMatches.get(0);
+        for (int i = 0; i < shortest.size; i++) {
+            int id = shortest.ids[i];
+            if (isInAll(id, gramMatches) && fieldNames.get(id).contains(term)) {
+                result.add(quotes.get(id));
+            }
+        }
+        return result;
+    }
+
+    private static boolean isInAll(int id, List<IdList> idLists) {
+        for (int i = 1; i < idLists.size(); i++) {
+            if (!idLists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addNames(int id, String quoteName, String customerName) {
+        names.get(Field.QUOTE_NAME).add(quoteName);
+        names.get(Field.CUSTOMER_NAME).add(customerName);
+        for (Field field : Field.values()) {
+            Map<Long, IdList> fieldPostings = postings.get(field);
+            String name = names.get(field).get(id);
+            for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+                fieldPostings.computeIfAbsent(gramAt(name, i), gram -> new IdList()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Gives the remaining quotes new ids without gaps, once more than half of the ids belong to removed quotes.
+     */
+    private void compact() {
+        List<Quote> remaining = new ArrayList<>(ids.size());
+        List<String> quoteNames = new ArrayList<>(ids.size());
+        List<String> customerNames = new ArrayList<>(ids.size());
+        for (int id = 0; id < quotes.size(); id++) {
+            if (quotes.get(id) != null) {
+                remaining.add(quotes.get(id));
+                quoteNames.add(names.get(Field.QUOTE_NAME).get(id));
+                customerNames.add(names.get(Field.CUSTOMER_NAME).get(id));
+            }
+        }
+        quotes.clear();
+        ids.clear();
+        for (Field field : Field.values()) {
+            postings.get(field).clear();
+            names.get(field).clear();
+        }
+        for (int id = 0; id < remaining.size(); id++) {
+            quotes.add(remaining.get(id));
+            ids.put(remaining.get(id), id);
+            addNames(id, quoteNames.get(id), customerNames.get(id));
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of a string, each packed into a long.
+     */
+    static Set<Long> trigrams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(gramAt(text, i));
+        }
+        return grams;
+    }
+
+    private static long gramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    private static String toLowerCase(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -24,7 +24,10 @@ public class QuotelyException extends Exception {
         INVALID_ITEM_QTY,
         INVALID_ITEM_TAX,
         INVALID_CUSTOMER_NAME,
-        INVALID_COMPANY_NAME
+        INVALID_COMPANY_NAME,
+        READ_ONLY_MODE,
+        PDF_RENDER_ERROR,
+        PDF_WRITE_ERROR
     }
 
     private final ErrorType errorType;
@@ -39,6 +42,16 @@ public class QuotelyException extends Exception {
         this.message = message;
     }
 
+    public QuotelyException(ErrorType errorType, String message, Throwable cause) {
+        super(cause);
+        this.errorType = errorType;
+        this.message = message;
+    }
+
+    public ErrorType getErrorType() {
+        return errorType;
+    }
+
     @Override
     public String getMessage() {
         switch (errorType) {
@@ -75,8 +88,8 @@ public class QuotelyException extends Exception {
         case INVALID_QUOTE_NAME:
             return "The quote name provided is too long or contains invalid characters. Please try again.";
         case INVALID_ITEM_NUMBER:
-            return "You have reached the maximum number of items for a single quote. Delete any existing quotes" +
-                    "or try with a new quote.";
+            return "You have reached the maximum number of items (" + message + ") for a single quote. " +
+                    "Delete any existing items or try with a new quote.";
         case INVALID_ITEM_NAME:
             return "The item name provided is too long or contains invalid characters. Please try again.";
         case INVALID_ITEM_PRICE:
@@ -92,6 +105,12 @@ public class QuotelyException extends Exception {
             return "The customer name provided is too long or contains invalid characters. Please try again.";
         case INVALID_COMPANY_NAME:
             return "The company name provided is too long or contains invalid characters. Please try again.";
+        case READ_ONLY_MODE:
+            return "Quotely was started in read-only mode, so this command cannot change any data.";
+        case PDF_RENDER_ERROR:
+            return "The quote could not be laid out as a PDF: " + message;
+        case PDF_WRITE_ERROR:
+            return "The PDF could not be written: " + message;
         default:
             return "An unknown error occurred.";
         }
@@ -109,8 +128,11 @@ public class QuotelyException extends Exception {
                 "7) Calculate the total of a quote `total {n/QUOTE_NAME}`\n" +
                 "8) Navigate to a quote or main menu `nav n/QUOTE_NAME/ nav main`\n" +
                 "9) Finish the Quote `finish`\n" +
-                "10) Show all quotes `show`\n" +
+                "10) Show all quotes `show [sort/ORDER] [page/PAGE] [size/SIZE] [compact]`\n" +
                 "11) Search for Quotes `search n/QUOTE_NAME`\n" +
-                "12) Exit the program `exit`\n";
+                "12) Import items from a CSV file `import f/FILE {n/QUOTE_NAME}`\n" +
+                "13) List the quotes of a customer `customer c/CUSTOMER_NAME`\n" +
+                "14) Show the quotes with the largest totals `top COUNT [by total]`\n" +
+                "15) Exit the program `exit`\n";
     }
 }
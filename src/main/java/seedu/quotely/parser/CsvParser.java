@@ -0,0 +1,46 @@
+package seedu.quotely.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits lines of a CSV file into fields.
+ * Fields may be enclosed in double quotes to contain commas, with "" standing for a quote inside them.
+ * Fields are trimmed, so spaces around commas are ignored.
+ */
+public class CsvParser {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvParser() {
+    }
+
+    public static List<String> parseLine(String line) {
+        assert line != null : "Line cannot be null";
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.quotely.parser;
 
+import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.logging.Logger;
@@ -14,8 +16,13 @@ import seedu.quotely.command.DeleteQuoteCommand;
 import seedu.quotely.command.ShowQuotesCommand;
 import seedu.quotely.command.FinishQuoteCommand;
 import seedu.quotely.command.AddItemCommand;
+import seedu.quotely.command.BatchExportCommand;
+import seedu.quotely.command.ExportCustomerCommand;
 import seedu.quotely.command.DeleteItemCommand;
+import seedu.quotely.command.ImportCommand;
 import seedu.quotely.command.CalculateTotalCommand;
+import seedu.quotely.command.CustomerQuotesCommand;
+import seedu.quotely.command.TopQuotesCommand;
 import seedu.quotely.command.NavigateCommand;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.Quote;
@@ -25,15 +32,26 @@ import seedu.quotely.util.LoggerConfig;
 public class Parser {
     private static final Logger logger = LoggerConfig.getLogger(Parser.class);
 
-    private static final String ADD_QUOTE_COMMAND_PATTERN = "^n/(.+?)\\s+c/(.+)$";
-    private static final String QUOTENAME_ARG_PATTERN = "^n/(.+)$";
-    private static final String EXPORT_QUOTENAME_ARG_PATTERN = "^n/(.+?)(?=\\s+f/|$)";
-    private static final String EXPORT_START_PATTERN = "^(n/|f/)";
-    private static final String FILENAME_ARG_PATTERN = "f/(.+)$";
-    private static final String REGISTER_COMMAND_PATTERN = "^c/(.+)$";
-    private static final String ADD_ITEM_COMMAND_PATTERN
-            = "^i/(.+?)(?:\\s+n/(.+?))?\\s+p/(.+?)\\s+q/(.+?)(?:\\s+t/(.+))?$";
-    private static final String DELETE_ITEM_COMMAND_PATTERN = "^i/(.+?)(?:\s+n/(.+))?$";
+    // compiled once, as compiling a pattern costs far more than matching it
+    private static final Pattern ADD_QUOTE_COMMAND_PATTERN = Pattern.compile("^n/(.+?)\\s+c/(.+)$");
+    private static final Pattern QUOTENAME_ARG_PATTERN = Pattern.compile("^n/(.+)$");
+    private static final Pattern SEARCH_QUERY_ARG_PATTERN = Pattern.compile("^q/(.+)$");
+    private static final Pattern SEARCH_CUSTOMER_ARG_PATTERN = Pattern.compile("^c/(.+)$");
+    private static final Pattern EXPORT_QUOTENAME_ARG_PATTERN = Pattern.compile("^n/(.+?)(?=\\s+f/|$)");
+    private static final Pattern EXPORT_CUSTOMER_ARG_PATTERN = Pattern.compile("^c/(.+?)(?:\\s+f/(.+))?$");
+    private static final Pattern EXPORT_SEARCH_ARG_PATTERN = Pattern.compile("^s/(.+)$");
+    private static final Pattern EXPORT_START_PATTERN = Pattern.compile("^(n/|f/)");
+    private static final Pattern FILENAME_ARG_PATTERN = Pattern.compile("f/(.+)$");
+    private static final Pattern REGISTER_COMMAND_PATTERN = Pattern.compile("^c/(.+)$");
+    private static final Pattern CUSTOMER_COMMAND_PATTERN = Pattern.compile("^c/(.+)$");
+    private static final Pattern SHOW_ARG_PATTERN = Pattern.compile("^(sort|page|size)/(\\S+)$");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern TOP_COMMAND_PATTERN = Pattern.compile("^(\\S+)(?:\\s+by\\s+total)?$");
+    private static final Pattern ADD_ITEM_COMMAND_PATTERN
+            = Pattern.compile("^i/(.+?)(?:\\s+n/(.+?))?\\s+p/(.+?)\\s+q/(.+?)(?:\\s+t/(.+))?$");
+    private static final Pattern DELETE_ITEM_COMMAND_PATTERN = Pattern.compile("^i/(.+?)(?:\s+n/(.+))?$");
+    private static final Pattern IMPORT_COMMAND_PATTERN = Pattern.compile("^f/(.+?)(?:\\s+n/(.+))?$");
+    private static final Pattern VALID_NAME_PATTERN = Pattern.compile("[A-Za-z0-9 _'&.,()\\-]+");
 
     // command keywords
     private static final String ADD_QUOTE_COMMAND_KEYWORD = "quote";
@@ -42,17 +60,25 @@ public class Parser {
     private static final String FINISH_QUOTE_COMMAND_KEYWORD = "finish";
     private static final String DELETE_ITEM_COMMAND_KEYWORD = "delete";
     private static final String EXPORT_QUOTE_COMMAND_KEYWORD = "export";
+    private static final String IMPORT_COMMAND_KEYWORD = "import";
+    private static final String EXPORT_ALL_KEYWORD = "all";
     private static final String ADD_ITEM_COMMAND_KEYWORD = "add";
     private static final String CALCULATE_TOTAL_COMMAND_KEYWORD = "total";
     private static final String NAVIGATE_COMMAND_KEYWORD = "nav";
     private static final String SEARCH_QUOTE_COMMAND_KEYWORD = "search";
+    private static final String CUSTOMER_COMMAND_KEYWORD = "customer";
+    private static final String TOP_COMMAND_KEYWORD = "top";
     private static final String REGISTER_COMMAND_KEYWORD = "register";
     private static final String EXIT_COMMAND_KEYWORD = "exit";
 
     //Fixed Variable Declarations
     private static double MAX_PRICE = 9999.99;
     private static int MAX_QTY = 999;
-    private static int MAX_ITEMS = 30;
+    /**
+     * Number of items a quote can hold unless another limit is given to parse(), e.g. with --max-items.
+     * Items are indexed by name and exported in chunks, so a quote can hold a large bill of materials.
+     */
+    public static final int DEFAULT_MAX_ITEMS = 10_000;
     private static double MAX_TAX_RATE = 200.00;
     private static int MAX_ITEMNAME_LENGTH = 30;
     private static int MAX_QUOTENAME_LENGTH = 50;
@@ -62,11 +88,112 @@ public class Parser {
     //Method for validating names
     public static boolean isValidName(String s) {
         //check if string only contains expected char types
-        return s.matches("[A-Za-z0-9 _'&.,()\\-]+");
+        return VALID_NAME_PATTERN.matcher(s).matches();
+    }
+
+    /**
+     * Checks a quote name against the length limit and allowed characters.
+     */
+    public static void checkQuoteName(String quoteName) throws QuotelyException {
+        if (quoteName.length() > MAX_QUOTENAME_LENGTH || !isValidName(quoteName)) {
+            logger.warning("Invalid quote name: " + quoteName);
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_QUOTE_NAME);
+        }
+    }
+
+    public static void checkCustomerName(String customerName) throws QuotelyException {
+        if (customerName.length() > MAX_CUSTOMERNAME_LENGTH || !isValidName(customerName)) {
+            logger.warning("Invalid customer name: " + customerName);
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_CUSTOMER_NAME);
+        }
+    }
+
+    public static void checkItemName(String itemName) throws QuotelyException {
+        if (itemName.length() > MAX_ITEMNAME_LENGTH || !isValidName(itemName)) {
+            logger.warning("Invalid item name: " + itemName);
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_NAME);
+        }
+    }
+
+    /**
+     * Checks that a quote with the given number of items can take one more, given the number of items
+     * a quote can hold. Quotes already holding more keep their items.
+     */
+    public static void checkItemCount(int itemCount, int maxItems) throws QuotelyException {
+        assert maxItems > 0 : "Maximum number of items must be positive";
+        if (itemCount >= maxItems) {
+            logger.warning("Quote already has the maximum number of items: " + itemCount);
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_NUMBER, String.valueOf(maxItems));
+        }
+    }
+
+    /**
+     * Parses an item price, which must be a non-negative number of at most MAX_PRICE.
+     */
+    public static double parsePrice(String priceStr) throws QuotelyException {
+        try {
+            double price = Double.parseDouble(priceStr);
+            if (price < 0) {
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+            }
+            if (price > MAX_PRICE) {
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_PRICE);
+            }
+            return price;
+        } catch (NumberFormatException e) {
+            logger.warning("Failed to parse price: " + e.getMessage());
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+        }
+    }
+
+    /**
+     * Parses an item quantity, which must be a positive integer of at most MAX_QTY.
+     */
+    public static int parseQuantity(String quantityStr) throws QuotelyException {
+        try {
+            int quantity = Integer.parseInt(quantityStr);
+            if (quantity <= 0) {
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+            }
+            if (quantity > MAX_QTY) {
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_QTY);
+            }
+            return quantity;
+        } catch (NumberFormatException e) {
+            logger.warning("Failed to parse quantity: " + e.getMessage());
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+        }
+    }
+
+    /**
+     * Parses a tax rate in percent, which must be non-negative and at most MAX_TAX_RATE.
+     */
+    public static double parseTaxRate(String taxRateStr) throws QuotelyException {
+        try {
+            double taxRate = Double.parseDouble(taxRateStr);
+            if (taxRate < 0) {
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+            }
+            if (taxRate > MAX_TAX_RATE) {
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_TAX);
+            }
+            return taxRate;
+        } catch (NumberFormatException e) {
+            logger.warning("Failed to parse tax rate: " + e.getMessage());
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+        }
     }
 
     public static Command parse(String fullCommand, QuotelyState state, QuoteList quoteList)
             throws QuotelyException {
+        return parse(fullCommand, state, quoteList, DEFAULT_MAX_ITEMS);
+    }
+
+    /**
+     * Parses a command, allowing a quote to hold at most maxItems items.
+     */
+    public static Command parse(String fullCommand, QuotelyState state, QuoteList quoteList, int maxItems)
+            throws QuotelyException {
 
         // Precondition assertions
         assert state != null : "QuotelyState cannot be null";
@@ -76,7 +203,8 @@ public class Parser {
         }
 
         logger.info("Parsing command: " + fullCommand);
-        logger.fine("Current state - isInside quote: " + state.isInsideQuote() +
+        // built only if fine messages are logged
+        logger.fine(() -> "Current state - isInside quote: " + state.isInsideQuote() +
                 " QuoteReference: "
                 + (state.getQuoteReference() != null ? state.getQuoteReference().toString() : "null"));
 
@@ -85,12 +213,13 @@ public class Parser {
          * add exception handling in parser
          */
         fullCommand = fullCommand.trim();
-        String command = fullCommand.split(" ")[0];
+        int commandEnd = fullCommand.indexOf(' ');
+        String command = commandEnd < 0 ? fullCommand : fullCommand.substring(0, commandEnd);
         logger.fine("Extracted command: '" + command + "'");
 
         String arguments = "";
-        if (fullCommand.split(" ").length > 1) {
-            arguments = fullCommand.split(" ", 2)[1].trim();
+        if (commandEnd >= 0) {
+            arguments = fullCommand.substring(commandEnd + 1).trim();
             logger.fine("Extracted arguments: '" + arguments + "'");
         }
         switch (command) {
@@ -105,7 +234,7 @@ public class Parser {
             return parseDeleteQuoteCommand(arguments, state, quoteList);
         case SHOW_QUOTES_COMMAND_KEYWORD:
             // available in all state, for now?
-            return new ShowQuotesCommand();
+            return parseShowCommand(arguments);
         case FINISH_QUOTE_COMMAND_KEYWORD:
             // inside quote only
             return parseFinishQuoteCommand(state);
@@ -115,9 +244,12 @@ public class Parser {
         case EXPORT_QUOTE_COMMAND_KEYWORD:
             // can use without quote name if inside a quote
             return parseExportCommand(arguments, state, quoteList);
+        case IMPORT_COMMAND_KEYWORD:
+            // into the current quote if no quote name is given, rows may also name their own quote
+            return parseImportCommand(arguments, state, quoteList, maxItems);
         case ADD_ITEM_COMMAND_KEYWORD:
             // can use without quote name if inside a quote
-            return parseAddItemCommand(arguments, state, quoteList);
+            return parseAddItemCommand(arguments, state, quoteList, maxItems);
         case CALCULATE_TOTAL_COMMAND_KEYWORD:
             // can use without quote name if inside a quote
             return parseCalculateTotalCommand(arguments, state, quoteList);
@@ -127,6 +259,12 @@ public class Parser {
         case SEARCH_QUOTE_COMMAND_KEYWORD:
             // available in main menu only
             return parseSearchCommand(arguments, state);
+        case CUSTOMER_COMMAND_KEYWORD:
+            // available in all states
+            return parseCustomerCommand(arguments);
+        case TOP_COMMAND_KEYWORD:
+            // available in all states
+            return parseTopCommand(arguments);
         case EXIT_COMMAND_KEYWORD:
             // available in all state, for now
             return new ExitCommand();
@@ -138,24 +276,14 @@ public class Parser {
     private static Command parseAddQuoteCommand(String arguments, QuotelyState state)
             throws QuotelyException {
         logger.fine("parseAddQuoteCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(ADD_QUOTE_COMMAND_PATTERN);
-        Matcher m = p.matcher(arguments);
+        Matcher m = ADD_QUOTE_COMMAND_PATTERN.matcher(arguments);
 
         if (m.find()) {
             String quoteName = m.group(1).trim();
             String customerName = m.group(2).trim();
 
-            //validate quote name and string content
-            if (quoteName.length() > MAX_QUOTENAME_LENGTH || !isValidName(quoteName)) {
-                logger.warning("Invalid quote name for add quote command: " + arguments);
-                throw new QuotelyException(QuotelyException.ErrorType.INVALID_QUOTE_NAME);
-            }
-
-            //parse customer name length and string content
-            if (customerName.length() > MAX_CUSTOMERNAME_LENGTH || !isValidName(customerName)) {
-                logger.warning("Invalid customer name for add quote command: " + arguments);
-                throw new QuotelyException(QuotelyException.ErrorType.INVALID_CUSTOMER_NAME);
-            }
+            checkQuoteName(quoteName);
+            checkCustomerName(customerName);
 
             logger.info("Successfully parsed add quote command - Quote: '"
                     + quoteName + "', Customer: '" + customerName + "'");
@@ -177,8 +305,7 @@ public class Parser {
             return new NavigateCommand();
         }
 
-        Pattern p = Pattern.compile(QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
+        Matcher m = QUOTENAME_ARG_PATTERN.matcher(arguments);
 
         String targetQuoteName = null;
         if (m.find()) {
@@ -206,8 +333,7 @@ public class Parser {
     private static Command parseDeleteQuoteCommand(String arguments, QuotelyState state,
                                                    QuoteList quoteList) throws QuotelyException {
         logger.fine("parseDeleteQuoteCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
+        Matcher m = QUOTENAME_ARG_PATTERN.matcher(arguments);
 
         String quoteName = null;
         if (m.find()) {
@@ -234,16 +360,30 @@ public class Parser {
     private static Command parseExportCommand(String arguments, QuotelyState state,
                                               QuoteList quoteList) throws QuotelyException {
         logger.fine("parseExportCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(EXPORT_QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
-        Pattern f = Pattern.compile(FILENAME_ARG_PATTERN);
-        Matcher fileMatcher = f.matcher(arguments);
-        Pattern startPattern = Pattern.compile(EXPORT_START_PATTERN);
-        Matcher startMatcher = startPattern.matcher(arguments);
+        if (arguments.equalsIgnoreCase(EXPORT_ALL_KEYWORD)) {
+            logger.info("Successfully parsed export command for all quotes");
+            return new BatchExportCommand(null);
+        }
+        Matcher searchMatcher = EXPORT_SEARCH_ARG_PATTERN.matcher(arguments);
+        if (searchMatcher.find()) {
+            logger.info("Successfully parsed export command for quotes matching: " + searchMatcher.group(1).trim());
+            return new BatchExportCommand(searchMatcher.group(1).trim());
+        }
+        Matcher customerMatcher = EXPORT_CUSTOMER_ARG_PATTERN.matcher(arguments);
+        if (customerMatcher.find()) {
+            String customerName = customerMatcher.group(1).trim();
+            String filename = customerMatcher.group(2) == null ? customerName : customerMatcher.group(2).trim();
+            logger.info("Successfully parsed export command for quotes of customer: " + customerName);
+            return new ExportCustomerCommand(customerName, removeExtension(filename));
+        }
+        Matcher m = EXPORT_QUOTENAME_ARG_PATTERN.matcher(arguments);
+        Matcher fileMatcher = FILENAME_ARG_PATTERN.matcher(arguments);
+        Matcher startMatcher = EXPORT_START_PATTERN.matcher(arguments);
         if (arguments.length() > 0 && !startMatcher.find()) {
             logger.warning("Invalid format for export quote command: " + arguments);
             throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
-                    "export [n/QUOTE_NAME] [f/FILENAME]");
+                    "export [n/QUOTE_NAME] [f/FILENAME] OR export all OR export s/SEARCH_TERM "
+                            + "OR export c/CUSTOMER_NAME [f/FILENAME]");
         }
 
         String quoteName = null;
@@ -257,10 +397,7 @@ public class Parser {
             if (fileMatcher.find() && fileMatcher.group(1).trim().length() > 0) {
                 filename = fileMatcher.group(1).trim();
             }
-            // remove any extension if user included it
-            if (filename.contains(".")) {
-                filename = filename.substring(0, filename.lastIndexOf('.'));
-            }
+            filename = removeExtension(filename);
             logger.info("Successfully parsed export quote command for quote: " + quote.getQuoteName());
             return new seedu.quotely.command.ExportQuoteCommand(quote, filename);
         } catch (QuotelyException e) {
@@ -269,15 +406,25 @@ public class Parser {
                 throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND, quoteName);
             } else {
                 throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
-                        "export [n/QUOTE_NAME] [f/FILENAME]");
+                        "export [n/QUOTE_NAME] [f/FILENAME] OR export all OR export s/SEARCH_TERM "
+                                + "OR export c/CUSTOMER_NAME [f/FILENAME]");
             }
         }
     }
 
+    /**
+     * Removes any extension the user included in an export file name.
+     */
+    private static String removeExtension(String filename) {
+        if (filename.contains(".")) {
+            return filename.substring(0, filename.lastIndexOf('.'));
+        }
+        return filename;
+    }
+
     private static Command parseRegisterCommand(String arguments) throws QuotelyException {
         logger.fine("parseRegisterCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(REGISTER_COMMAND_PATTERN);
-        Matcher m = p.matcher(arguments);
+        Matcher m = REGISTER_COMMAND_PATTERN.matcher(arguments);
 
         if (m.find()) {
             String name = m.group(1).trim();
@@ -298,19 +445,14 @@ public class Parser {
         }
     }
 
-    private static Command parseAddItemCommand(String arguments,
-                                               QuotelyState state, QuoteList quoteList) throws QuotelyException {
+    private static Command parseAddItemCommand(String arguments, QuotelyState state, QuoteList quoteList,
+                                               int maxItems) throws QuotelyException {
         logger.fine("parseAddItemCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(ADD_ITEM_COMMAND_PATTERN);
-        Matcher m = p.matcher(arguments);
+        Matcher m = ADD_ITEM_COMMAND_PATTERN.matcher(arguments);
 
         if (m.find()) {
             String itemName = m.group(1).trim();
-            //validate item name and string content
-            if (itemName.length() > MAX_ITEMNAME_LENGTH || !isValidName(itemName)) {
-                logger.warning("Invalid item name for add item command: " + arguments);
-                throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_NAME);
-            }
+            checkItemName(itemName);
             String quoteName = m.group(2) != null ? m.group(2).trim() : null;
             String priceStr = m.group(3).trim();
             String quantityStr = m.group(4).trim();
@@ -321,9 +463,6 @@ public class Parser {
                     priceStr + "', Quantity: '" + quantityStr + "'" + "', Tax: '" +
                     (taxRateStr != null ? taxRateStr : "<none>"));
 
-            double price;
-            int quantity;
-            double taxRate = 0;
             Quote quote;
 
             // extract quote from quoteName or state
@@ -339,55 +478,10 @@ public class Parser {
                 }
             }
 
-            //parse quote item count
-            if (quote.getItems().size() >= MAX_ITEMS) {
-                logger.warning("Invalid item count for quote for add item command: " + arguments);
-                throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_NUMBER);
-            }
-
-            // parse price
-            try {
-                price = Double.parseDouble(priceStr);
-                if (price < 0) {
-                    throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
-                }
-                if (price > MAX_PRICE) {
-                    throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_PRICE);
-                }
-            } catch (NumberFormatException e) {
-                logger.warning("Failed to parse price: " + e.getMessage());
-                throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
-            }
-
-            // parse quantity
-            try {
-                quantity = Integer.parseInt(quantityStr);
-                if (quantity <= 0) {
-                    throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
-                }
-                if (quantity > MAX_QTY) {
-                    throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_QTY);
-                }
-            } catch (NumberFormatException e) {
-                logger.warning("Failed to parse quantity: " + e.getMessage());
-                throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
-            }
-
-            // parse tax rate if provided
-            if (taxRateStr != null) {
-                try {
-                    taxRate = Double.parseDouble(taxRateStr);
-                    if (taxRate < 0) {
-                        throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
-                    }
-                    if (taxRate > MAX_TAX_RATE) {
-                        throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_TAX);
-                    }
-                } catch (NumberFormatException e) {
-                    logger.warning("Failed to parse tax rate: " + e.getMessage());
-                    throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
-                }
-            }
+            checkItemCount(quote.getItemCount(), maxItems);
+            double price = parsePrice(priceStr);
+            int quantity = parseQuantity(quantityStr);
+            double taxRate = taxRateStr != null ? parseTaxRate(taxRateStr) : 0;
 
             logger.info("Successfully parsed add item command - Item: '" +
                     itemName + "' Price: " + price + " Quantity: " + quantity +
@@ -402,11 +496,36 @@ public class Parser {
         }
     }
 
+    private static Command parseImportCommand(String arguments, QuotelyState state, QuoteList quoteList,
+                                              int maxItems) throws QuotelyException {
+        logger.fine("parseImportCommand called with arguments: " + arguments);
+        Matcher m = IMPORT_COMMAND_PATTERN.matcher(arguments);
+        if (!m.find() || m.group(1).trim().isEmpty()) {
+            logger.warning("Invalid format for import command: " + arguments);
+            throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
+                    "import f/FILE [n/QUOTE_NAME]");
+        }
+        String fileName = m.group(1).trim();
+        String quoteName = m.group(2) != null ? m.group(2).trim() : null;
+
+        // without a target quote, every row of the file must name its quote
+        Quote quote = state.getQuoteReference();
+        if (quoteName != null) {
+            try {
+                quote = quoteList.getQuoteByName(quoteName);
+            } catch (QuotelyException e) {
+                logger.warning("Failed to find quote name:" + quoteName + " for import");
+                throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND, quoteName);
+            }
+        }
+        logger.info("Successfully parsed import command for file: " + fileName);
+        return new ImportCommand(Paths.get(fileName), quote, maxItems);
+    }
+
     private static Command parseDeleteItemCommand(String arguments, QuotelyState state,
                                                   QuoteList quoteList) throws QuotelyException {
         logger.fine("parseDeleteItemCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(DELETE_ITEM_COMMAND_PATTERN);
-        Matcher m = p.matcher(arguments);
+        Matcher m = DELETE_ITEM_COMMAND_PATTERN.matcher(arguments);
         if (m.find()) {
             String itemName = m.group(1).trim();
             String quoteName = m.group(2) != null ? m.group(2).trim() : null;
@@ -441,8 +560,7 @@ public class Parser {
     private static Command parseCalculateTotalCommand(String arguments,
                                                       QuotelyState state, QuoteList quoteList) throws QuotelyException {
         logger.fine("parseCalculateTotalCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
+        Matcher m = QUOTENAME_ARG_PATTERN.matcher(arguments);
         String quoteName = null;
         if (m.find()) {
             quoteName = m.group(1).trim();
@@ -493,22 +611,120 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses the arguments of show, given in any order: sort/ORDER, page/PAGE, size/SIZE and compact.
+     * A size without a page shows the first page.
+     */
+    private static Command parseShowCommand(String arguments) throws QuotelyException {
+        logger.fine("parseShowCommand called");
+        ShowQuotesCommand.SortOrder sortOrder = ShowQuotesCommand.SortOrder.ADDED;
+        int page = 0;
+        int pageSize = 0;
+        boolean isCompact = false;
+        for (String argument : arguments.isEmpty() ? new String[0] : WHITESPACE_PATTERN.split(arguments)) {
+            Matcher m = SHOW_ARG_PATTERN.matcher(argument);
+            if (argument.equalsIgnoreCase("compact")) {
+                isCompact = true;
+            } else if (!m.find()) {
+                throw invalidShowCommand(arguments);
+            } else if (m.group(1).equals("sort")) {
+                sortOrder = parseSortOrder(m.group(2), arguments);
+            } else if (m.group(1).equals("page")) {
+                page = parsePositiveInt(m.group(2));
+            } else {
+                pageSize = parsePositiveInt(m.group(2));
+            }
+        }
+        if (pageSize > 0 && page == 0) {
+            page = 1;
+        }
+        logger.info("Successfully parsed show command");
+        return new ShowQuotesCommand(sortOrder, page, pageSize > 0 ? pageSize : ShowQuotesCommand.DEFAULT_PAGE_SIZE,
+                isCompact);
+    }
+
+    private static ShowQuotesCommand.SortOrder parseSortOrder(String order, String arguments)
+            throws QuotelyException {
+        switch (order.toLowerCase(Locale.ROOT)) {
+        case "total":
+            return ShowQuotesCommand.SortOrder.TOTAL;
+        case "customer":
+            return ShowQuotesCommand.SortOrder.CUSTOMER;
+        case "name":
+            return ShowQuotesCommand.SortOrder.NAME;
+        default:
+            throw invalidShowCommand(arguments);
+        }
+    }
+
+    private static QuotelyException invalidShowCommand(String arguments) {
+        logger.warning("Invalid format for show command: " + arguments);
+        return new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
+                "show [sort/total OR sort/customer OR sort/name] [page/PAGE] [size/SIZE] [compact]");
+    }
+
+    /**
+     * Parses a page number or size, which must be a positive integer.
+     */
+    private static int parsePositiveInt(String number) throws QuotelyException {
+        try {
+            int value = Integer.parseInt(number);
+            if (value <= 0) {
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            logger.warning("Failed to parse number: " + e.getMessage());
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+        }
+    }
+
+    private static Command parseTopCommand(String arguments) throws QuotelyException {
+        logger.fine("parseTopCommand called");
+        Matcher m = TOP_COMMAND_PATTERN.matcher(arguments);
+        if (!m.find()) {
+            logger.warning("Invalid format for top command: " + arguments);
+            throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT, "top COUNT [by total]");
+        }
+        int count = parsePositiveInt(m.group(1));
+        logger.info("Successfully parsed top command");
+        return new TopQuotesCommand(count);
+    }
+
+    private static Command parseCustomerCommand(String arguments) throws QuotelyException {
+        logger.fine("parseCustomerCommand called");
+        Matcher m = CUSTOMER_COMMAND_PATTERN.matcher(arguments);
+        if (m.find() && !m.group(1).isBlank()) {
+            logger.info("Successfully parsed customer command");
+            return new CustomerQuotesCommand(m.group(1).trim());
+        }
+        logger.warning("Invalid format for customer command: " + arguments);
+        throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT, "customer c/CUSTOMER_NAME");
+    }
+
     private static Command parseSearchCommand(String arguments, QuotelyState state) throws QuotelyException {
         logger.fine("parseSearchCommand called");
         String quoteName;
 
-        Pattern p = Pattern.compile(QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
+        Matcher m = QUOTENAME_ARG_PATTERN.matcher(arguments);
+        Matcher queryMatcher = SEARCH_QUERY_ARG_PATTERN.matcher(arguments);
+        Matcher customerMatcher = SEARCH_CUSTOMER_ARG_PATTERN.matcher(arguments);
 
         if (m.find()) {
             quoteName = m.group(1).trim();
             logger.info("Successfully parsed search quote command");
             return new SearchQuoteCommand(quoteName);
+        } else if (queryMatcher.find() && !queryMatcher.group(1).isBlank()) {
+            logger.info("Successfully parsed search query command");
+            return new SearchQuoteCommand(queryMatcher.group(1).trim(), SearchQuoteCommand.SearchType.QUERY);
+        } else if (customerMatcher.find() && !customerMatcher.group(1).isBlank()) {
+            logger.info("Successfully parsed search customer command");
+            return new SearchQuoteCommand(customerMatcher.group(1).trim(), SearchQuoteCommand.SearchType.CUSTOMER_NAME);
         } else {
             logger.warning("Invalid format for search item command: " + arguments);
             throw new QuotelyException(
                     QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
-                    "search n/QUOTE_NAME");
+                    "search n/QUOTE_NAME OR search c/CUSTOMER_NAME OR search q/QUERY");
         }
     }
 }
@@ -11,6 +11,8 @@ public class ApplicationData {
 
     private QuoteList quoteList;
     private CompanyName companyName;
+    // Revision of the last journal entry contained in this snapshot; omitted when null
+    private Long revision;
 
     /**
      * No-arg constructor for Gson deserialization.
@@ -36,6 +38,14 @@ public class ApplicationData {
     public CompanyName getCompanyName() {
         return companyName;
     }
+
+    public long getRevision() {
+        return revision == null ? 0 : revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
 }
 
 
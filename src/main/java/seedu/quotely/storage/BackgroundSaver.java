@@ -0,0 +1,156 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Writes full snapshots of the application data on a background thread.
+ * Save requests made within the staleness window are coalesced, so a burst of
+ * changes results in a single write of the latest snapshot. After a snapshot is
+ * written, journal entries contained in it are discarded.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LoggerConfig.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final DataSerializer serializer;
+    private final ChangeJournal journal;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService executor;
+
+    // guarded by this
+    private ApplicationData pendingData;
+    private ScheduledFuture<?> scheduledWrite;
+    private boolean isWriting;
+    private IOException lastError;
+
+    /**
+     * Creates a BackgroundSaver with its own worker thread.
+     *
+     * @param storage            The storage to write snapshots to.
+     * @param serializer         The serializer used to write snapshots.
+     * @param journal            The journal to trim once a snapshot is written.
+     * @param maxStalenessMillis The longest time a requested save may wait before it is written.
+     */
+    public BackgroundSaver(Storage storage, DataSerializer serializer, ChangeJournal journal,
+                           long maxStalenessMillis) {
+        assert storage != null && serializer != null && journal != null : "Saver dependencies cannot be null";
+        assert maxStalenessMillis >= 0 : "Staleness window cannot be negative";
+
+        this.storage = storage;
+        this.serializer = serializer;
+        this.journal = journal;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quotely-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules a snapshot to be written within the staleness window.
+     * The snapshot must not be modified afterwards; it replaces any snapshot still waiting to be written.
+     */
+    public synchronized void requestSave(ApplicationData snapshot) {
+        assert snapshot != null : "Snapshot cannot be null";
+
+        pendingData = snapshot;
+        if (scheduledWrite == null && !executor.isShutdown()) {
+            scheduledWrite = executor.schedule(this::writePending, maxStalenessMillis, TimeUnit.MILLISECONDS);
+            logger.fine("Scheduled background save in " + maxStalenessMillis + "ms");
+        }
+    }
+
+    /**
+     * Returns true if a snapshot is waiting to be written or is being written.
+     */
+    public synchronized boolean hasPendingSave() {
+        return pendingData != null || isWriting;
+    }
+
+    /**
+     * Writes any waiting snapshot now and blocks until it is on disk.
+     *
+     * @throws IOException if the last snapshot could not be written.
+     */
+    public void flush() throws IOException {
+        try {
+            Future<?> write = executor.submit(this::writePending);
+            write.get();
+        } catch (RejectedExecutionException e) {
+            // worker already stopped, write on the calling thread instead
+            writePending();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Background save failed", e.getCause());
+        }
+
+        synchronized (this) {
+            if (lastError != null) {
+                throw lastError;
+            }
+        }
+    }
+
+    /**
+     * Flushes any waiting snapshot and stops the worker thread. Safe to call more than once,
+     * e.g. from both the exit command and a JVM shutdown hook.
+     */
+    public void shutdown() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data during shutdown: " + e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void writePending() {
+        ApplicationData data;
+        synchronized (this) {
+            data = pendingData;
+            pendingData = null;
+            scheduledWrite = null;
+            if (data == null) {
+                return;
+            }
+            isWriting = true;
+        }
+
+        try {
+            storage.saveData(data, serializer);
+            journal.discardUpTo(data.getRevision());
+            logger.info("Background save completed at revision " + data.getRevision());
+            synchronized (this) {
+                lastError = null;
+            }
+        } catch (IOException e) {
+            logger.severe("Background save failed, journal kept for recovery: " + e.getMessage());
+            synchronized (this) {
+                lastError = e;
+                // retry with this snapshot on the next request or flush unless a newer one arrived
+                if (pendingData == null) {
+                    pendingData = data;
+                }
+            }
+        } finally {
+            synchronized (this) {
+                isWriting = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.quotely.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.ItemStore;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Serializes and deserializes the ApplicationData to/from a compact, versioned binary format.
+ * All strings are stored once in a table and referred to by index, so repeated item and
+ * customer names cost 4 bytes each. Numbers are stored as raw primitives, prices as cents and
+ * tax rates as basis points like in memory, which makes the conversion to and from JSON lossless.
+ *
+ * <p>Layout (version 4), all values big-endian:
+ * <pre>
+ * int magic "QTLY", int version, long revision,
+ * int stringCount, stringCount x (int byteLength, UTF-8 bytes),
+ * int companyNameRef,
+ * int quoteCount, quoteCount x (int nameRef, int customerRef, int itemCount, long subtotalCents, long scaledTax,
+ *     itemCount x (int nameRef, long priceCents, int quantity, int taxBasisPoints)),
+ * index: int companyNameRef, int stringCount, stringCount x int stringOffset,
+ *     int quoteCount, quoteCount x int quoteOffset,
+ * int indexOffset, int magic "QTLY"
+ * </pre>
+ * A string reference of -1 stands for null. The index at the end lets MappedDataFile find any
+ * string or quote without reading the file from the start; it is ignored when reading a stream.
+ * The totals of each quote (scaledTax is the exact tax scaled by Money.TAX_SCALE) let MappedDataFile
+ * give a quote its totals without reading its items; when reading a stream, they are computed from the items.
+ * Version 3 files have no quote totals. Version 2 files also store each price as a double and each tax rate
+ * as a double percentage, and version 1 files are the same as version 2 without the index. All can still be read.
+ */
+public class BinarySerializer implements DataSerializer {
+    public static final int MAGIC = 0x51544C59; // "QTLY"
+    public static final int VERSION = 4;
+    /** The oldest version that can still be read. */
+    public static final int MIN_VERSION = 1;
+    // the last version storing prices and tax rates as doubles
+    private static final int DECIMAL_AMOUNTS_VERSION = 2;
+    // the first version storing the totals of each quote
+    private static final int QUOTE_TOTALS_VERSION = 4;
+
+    static final int NULL_REF = -1;
+    // names are limited to a few dozen characters, so anything longer means the file is corrupted
+    static final int MAX_STRING_BYTES = 64 * 1024;
+
+    private static final Logger logger = LoggerConfig.getLogger(BinarySerializer.class);
+
+    @Override
+    public void serialize(ApplicationData appData, OutputStream out) throws IOException {
+        assert appData != null : "Cannot serialize null ApplicationData";
+
+        Map<String, Integer> stringTable = buildStringTable(appData);
+        DataOutputStream data = new DataOutputStream(out);
+
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(appData.getRevision());
+
+        int[] stringOffsets = new int[stringTable.size()];
+        data.writeInt(stringTable.size());
+        for (String s : stringTable.keySet()) {
+            stringOffsets[stringTable.get(s)] = data.size();
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        CompanyName companyName = appData.getCompanyName();
+        int companyNameRef = refOf(stringTable, companyName == null ? null : companyName.getCompanyName());
+        data.writeInt(companyNameRef);
+
+        List<Quote> quotes = appData.getQuoteList() == null ? List.of() : appData.getQuoteList().getQuotes();
+        int[] quoteOffsets = new int[quotes.size()];
+        data.writeInt(quotes.size());
+        for (int i = 0; i < quotes.size(); i++) {
+            Quote q = quotes.get(i);
+            quoteOffsets[i] = data.size();
+            data.writeInt(refOf(stringTable, q.getQuoteName()));
+            data.writeInt(refOf(stringTable, q.getCustomerName()));
+            // read once and not kept, so saving in lazy mode does not load every quote's items for good
+            ItemStore items = q.readItemStore();
+            data.writeInt(items.size());
+            data.writeLong(items.getSubtotalCents());
+            data.writeLong(items.getScaledTax());
+            for (int row = 0; row < items.size(); row++) {
+                data.writeInt(refOf(stringTable, items.getItemName(row)));
+                data.writeLong(items.getPriceCents(row));
+                data.writeInt(items.getQuantity(row));
+                data.writeInt(items.getTaxBasisPoints(row));
+            }
+        }
+
+        int indexOffset = data.size();
+        if (indexOffset == Integer.MAX_VALUE) {
+            // DataOutputStream stops counting here, so the offsets above cannot be trusted
+            throw new IOException("Binary data file would exceed the 2GB limit");
+        }
+        data.writeInt(companyNameRef);
+        writeOffsets(data, stringOffsets);
+        writeOffsets(data, quoteOffsets);
+        data.writeInt(indexOffset);
+        data.writeInt(MAGIC);
+        data.flush();
+    }
+
+    /**
+     * Reads ApplicationData written by serialize().
+     *
+     * @throws IOException if the input is empty, truncated, corrupted or of an unsupported version.
+     */
+    @Override
+    public ApplicationData deserializeStrict(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        try {
+            if (data.readInt() != MAGIC) {
+                throw new IOException("Not a Quotely binary data file");
+            }
+            int version = data.readInt();
+            if (version < MIN_VERSION || version > VERSION) {
+                throw new IOException("Unsupported binary data version: " + version);
+            }
+            long revision = data.readLong();
+
+            int stringCount = readCount(data);
+            // grown as strings are read, so a corrupted count fails with EOF rather than a huge allocation
+            List<String> strings = new ArrayList<>(Math.min(stringCount, 1024));
+            for (int i = 0; i < stringCount; i++) {
+                int length = readCount(data);
+                if (length > MAX_STRING_BYTES) {
+                    throw new IOException("Corrupted binary data: string of " + length + " bytes");
+                }
+                byte[] bytes = new byte[length];
+                data.readFully(bytes);
+                strings.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+
+            String companyName = lookup(strings, data.readInt());
+            int quoteCount = readCount(data);
+            List<Quote> quotes = new ArrayList<>(Math.min(quoteCount, 1024));
+            for (int i = 0; i < quoteCount; i++) {
+                Quote quote = new Quote(lookup(strings, data.readInt()), lookup(strings, data.readInt()));
+                int itemCount = readCount(data);
+                if (version >= QUOTE_TOTALS_VERSION) {
+                    // the totals follow from the items added below
+                    data.skipNBytes(2 * Long.BYTES);
+                }
+                for (int j = 0; j < itemCount; j++) {
+                    String itemName = lookup(strings, data.readInt());
+                    if (version <= DECIMAL_AMOUNTS_VERSION) {
+                        quote.addItem(itemName, data.readDouble(), data.readInt(), data.readDouble());
+                    } else {
+                        quote.addItemCents(itemName, data.readLong(), data.readInt(), data.readInt());
+                    }
+                }
+                quotes.add(quote);
+            }
+            // validate() drops invalid and duplicate quotes and makes the list modifiable
+            QuoteList quoteList = new QuoteList(quotes);
+            quoteList.validate();
+
+            ApplicationData appData = new ApplicationData(quoteList,
+                    companyName == null ? null : new CompanyName(companyName));
+            if (revision != 0) {
+                appData.setRevision(revision);
+            }
+            return appData;
+        } catch (EOFException e) {
+            logger.warning("Binary data ended unexpectedly");
+            throw new IOException("Binary data file is empty or truncated", e);
+        }
+    }
+
+    private static Map<String, Integer> buildStringTable(ApplicationData appData) {
+        Map<String, Integer> table = new LinkedHashMap<>();
+        if (appData.getCompanyName() != null) {
+            addString(table, appData.getCompanyName().getCompanyName());
+        }
+        if (appData.getQuoteList() != null) {
+            for (Quote q : appData.getQuoteList().getQuotes()) {
+                addString(table, q.getQuoteName());
+                addString(table, q.getCustomerName());
+                // only the names are read for quotes whose items are not in memory
+                for (String itemName : q.getItemNames()) {
+                    addString(table, itemName);
+                }
+            }
+        }
+        return table;
+    }
+
+    private static void writeOffsets(DataOutputStream data, int[] offsets) throws IOException {
+        data.writeInt(offsets.length);
+        for (int offset : offsets) {
+            data.writeInt(offset);
+        }
+    }
+
+    private static void addString(Map<String, Integer> table, String s) {
+        if (s != null) {
+            table.putIfAbsent(s, table.size());
+        }
+    }
+
+    private static int refOf(Map<String, Integer> table, String s) {
+        return s == null ? NULL_REF : table.get(s);
+    }
+
+    private static int readCount(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupted binary data: negative length " + count);
+        }
+        return count;
+    }
+
+    private static String lookup(List<String> strings, int ref) throws IOException {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        if (ref < 0 || ref >= strings.size()) {
+            throw new IOException("Corrupted binary data: string reference " + ref + " out of range");
+        }
+        return strings.get(ref);
+    }
+}
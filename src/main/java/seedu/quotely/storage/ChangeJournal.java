@@ -0,0 +1,146 @@
+package seedu.quotely.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Append-only log of data changes made since the last full save.
+ * Each line holds one JournalEntry in compact JSON, so the cost of recording a change
+ * depends only on the size of that change. Entries are discarded once a full
+ * snapshot containing them is written by Storage.
+ * Methods are synchronized because the BackgroundSaver trims the journal from its own thread.
+ */
+public class ChangeJournal {
+
+    private static final Logger logger = LoggerConfig.getLogger(ChangeJournal.class);
+    private final Gson gson = new Gson();
+    private final Path filePath;
+    private int entryCount = 0;
+
+    /**
+     * Constructs a ChangeJournal backed by the specified file.
+     *
+     * @param directory The directory to store the journal in (e.g., "data").
+     * @param fileName  The name of the journal file (e.g., "quotely.journal").
+     */
+    public ChangeJournal(String directory, String fileName) {
+        assert directory != null && !directory.trim().isEmpty() : "Directory cannot be null or empty";
+        assert fileName != null && !fileName.trim().isEmpty() : "File name cannot be null or empty";
+
+        this.filePath = Paths.get(directory, fileName);
+        logger.info("Change journal initialized. Journal file path: " + this.filePath);
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of entries currently in the journal.
+     */
+    public synchronized int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Reads all entries from the journal file.
+     * Reading stops at the first unreadable line, which is expected if the
+     * application stopped while an entry was being appended.
+     */
+    public synchronized List<JournalEntry> loadEntries() throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            entryCount = 0;
+            return entries;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    JournalEntry entry = gson.fromJson(line, JournalEntry.class);
+                    if (entry == null || entry.getType() == null) {
+                        throw new JsonParseException("Missing entry type");
+                    }
+                    entries.add(entry);
+                } catch (JsonParseException e) {
+                    logger.warning("Ignoring unreadable journal entry and everything after it: " + e.getMessage());
+                    break;
+                }
+            }
+        }
+        entryCount = entries.size();
+        logger.info("Loaded " + entryCount + " journal entries from " + filePath);
+        return entries;
+    }
+
+    /**
+     * Appends a single entry to the end of the journal file.
+     */
+    public synchronized void append(JournalEntry entry) throws IOException {
+        assert entry != null : "Journal entry cannot be null";
+
+        Path parentDir = filePath.getParent();
+        if (parentDir != null && !Files.exists(parentDir)) {
+            Files.createDirectories(parentDir);
+        }
+        String line = gson.toJson(entry) + System.lineSeparator();
+        Files.write(filePath, line.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        entryCount++;
+        logger.fine("Appended journal entry " + entry.getType() + " at revision " + entry.getRevision());
+    }
+
+    /**
+     * Removes all entries, called once their changes are contained in a snapshot.
+     */
+    public synchronized void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        entryCount = 0;
+        logger.fine("Cleared journal " + filePath);
+    }
+
+    /**
+     * Removes the entries up to and including the given revision, keeping any
+     * changes recorded after that revision was saved.
+     */
+    public synchronized void discardUpTo(long revision) throws IOException {
+        List<JournalEntry> keptEntries = new ArrayList<>();
+        for (JournalEntry entry : loadEntries()) {
+            if (entry.getRevision() > revision) {
+                keptEntries.add(entry);
+            }
+        }
+        if (keptEntries.isEmpty()) {
+            clear();
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : keptEntries) {
+            lines.append(gson.toJson(entry)).append(System.lineSeparator());
+        }
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.write(tempPath, lines.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        entryCount = keptEntries.size();
+        logger.fine("Kept " + entryCount + " journal entries after revision " + revision);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Converts a Quotely data file between the JSON and binary formats.
+ * The format of each file is chosen by its extension: ".json" for JSON, anything else for binary.
+ *
+ * <p>Usage: {@code java -cp quotely.jar seedu.quotely.storage.DataFileConverter SOURCE TARGET}
+ */
+public class DataFileConverter {
+    private static final Logger logger = LoggerConfig.getLogger(DataFileConverter.class);
+    private static final String JSON_EXTENSION = ".json";
+
+    /**
+     * Loads the source file with one serializer and saves it to the target file with another.
+     * The target is written atomically like any other save.
+     */
+    public static ApplicationData convert(Path source, DataSerializer sourceFormat,
+                                          Path target, DataSerializer targetFormat) throws IOException {
+        assert source != null && target != null : "Source and target files cannot be null";
+
+        ApplicationData appData = storageFor(source).loadData(sourceFormat);
+        storageFor(target).saveData(appData, targetFormat);
+        logger.info("Converted " + source + " to " + target);
+        return appData;
+    }
+
+    /**
+     * Returns the serializer for a file based on its extension.
+     */
+    public static DataSerializer serializerFor(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(JSON_EXTENSION)
+                ? new JsonSerializer()
+                : new BinarySerializer();
+    }
+
+    private static Storage storageFor(Path path) {
+        Path absolutePath = path.toAbsolutePath();
+        return new Storage(absolutePath.getParent().toString(), absolutePath.getFileName().toString());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: DataFileConverter SOURCE TARGET");
+            return;
+        }
+        Path source = Path.of(args[0]);
+        Path target = Path.of(args[1]);
+        ApplicationData appData = convert(source, serializerFor(source), target, serializerFor(target));
+        System.out.println("Converted " + appData.getQuoteList().getQuotes().size() + " quotes from "
+                + source + " to " + target);
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Converts ApplicationData to and from a file format.
+ * Storage uses this to save and load data without depending on the format.
+ */
+public interface DataSerializer {
+
+    /**
+     * Writes the application data to the given stream.
+     */
+    void serialize(ApplicationData appData, OutputStream out) throws IOException;
+
+    /**
+     * Reads application data from the given stream.
+     * Implementations report empty or corrupted input with an exception rather than
+     * returning empty data, so that Storage can fall back to a backup.
+     */
+    ApplicationData deserializeStrict(InputStream in) throws IOException;
+}
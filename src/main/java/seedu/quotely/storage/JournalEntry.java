@@ -0,0 +1,127 @@
+package seedu.quotely.storage;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Money;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.exception.QuotelyException;
+
+/**
+ * A single data change recorded in the ChangeJournal.
+ * Each entry carries a revision number so that entries already contained
+ * in the snapshot file are skipped when the journal is replayed.
+ */
+public class JournalEntry {
+    /**
+     * Kinds of changes that can be journaled.
+     */
+    public enum Type {
+        ADD_QUOTE,
+        DELETE_QUOTE,
+        ADD_ITEM,
+        DELETE_ITEM,
+        REGISTER_COMPANY
+    }
+
+    private Type type;
+    private long revision;
+    private String quoteName;
+    private String customerName;
+    private String itemName;
+    private long priceCents;
+    private int quantity;
+    private int taxBasisPoints;
+    // amounts as decimals, only in entries written by older versions; null otherwise, so they are not written
+    private Double price;
+    private Double taxRate;
+    private String companyName;
+
+    private JournalEntry(Type type) {
+        this.type = type;
+    }
+
+    public static JournalEntry addQuote(String quoteName, String customerName) {
+        JournalEntry entry = new JournalEntry(Type.ADD_QUOTE);
+        entry.quoteName = quoteName;
+        entry.customerName = customerName;
+        return entry;
+    }
+
+    public static JournalEntry deleteQuote(String quoteName) {
+        JournalEntry entry = new JournalEntry(Type.DELETE_QUOTE);
+        entry.quoteName = quoteName;
+        return entry;
+    }
+
+    /**
+     * Returns an entry adding an item with a price in cents and a tax rate in basis points, so replaying it
+     * adds exactly the amounts that were added.
+     */
+    public static JournalEntry addItem(String quoteName, String itemName, long priceCents, int quantity,
+                                       int taxBasisPoints) {
+        JournalEntry entry = new JournalEntry(Type.ADD_ITEM);
+        entry.quoteName = quoteName;
+        entry.itemName = itemName;
+        entry.priceCents = priceCents;
+        entry.quantity = quantity;
+        entry.taxBasisPoints = taxBasisPoints;
+        return entry;
+    }
+
+    public static JournalEntry deleteItem(String quoteName, String itemName) {
+        JournalEntry entry = new JournalEntry(Type.DELETE_ITEM);
+        entry.quoteName = quoteName;
+        entry.itemName = itemName;
+        return entry;
+    }
+
+    public static JournalEntry registerCompany(String companyName) {
+        JournalEntry entry = new JournalEntry(Type.REGISTER_COMPANY);
+        entry.companyName = companyName;
+        return entry;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * Re-applies this change to the loaded data.
+     *
+     * @throws QuotelyException if the change refers to a quote or item that does not exist.
+     */
+    public void apply(QuoteList quoteList, CompanyName company) throws QuotelyException {
+        switch (type) {
+        case ADD_QUOTE:
+            if (quoteList.hasQuote(quoteName)) {
+                throw new QuotelyException(QuotelyException.ErrorType.DUPLICATE_QUOTE_NAME);
+            }
+            quoteList.addQuote(new Quote(quoteName, customerName));
+            break;
+        case DELETE_QUOTE:
+            quoteList.removeQuote(quoteList.getQuoteByName(quoteName));
+            break;
+        case ADD_ITEM:
+            long cents = price != null ? Money.toCents(price) : priceCents;
+            int basisPoints = taxRate != null ? Money.toBasisPoints(taxRate) : taxBasisPoints;
+            quoteList.getQuoteByName(quoteName).addItemCents(itemName, cents, quantity, basisPoints);
+            break;
+        case DELETE_ITEM:
+            quoteList.getQuoteByName(quoteName).removeItem(itemName);
+            break;
+        case REGISTER_COMPANY:
+            company.setCompanyName(companyName);
+            break;
+        default:
+            throw new QuotelyException(QuotelyException.ErrorType.FILE_ERROR);
+        }
+    }
+}
@@ -1,20 +1,55 @@
 package seedu.quotely.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Logger;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
-
+import seedu.quotely.data.ItemStore;
+import seedu.quotely.data.Quote;
 import seedu.quotely.util.LoggerConfig;
 
 /**
  * Serializes and deserializes the ApplicationData to/from JSON format.
  */
-public class JsonSerializer {
+public class JsonSerializer implements DataSerializer {
     private static final Logger logger = LoggerConfig.getLogger(JsonSerializer.class);
-    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final Gson gson;
+
+    /**
+     * Creates a serializer that writes human-readable, pretty-printed JSON.
+     */
+    public JsonSerializer() {
+        this(true);
+    }
+
+    /**
+     * Creates a serializer with the given output mode.
+     *
+     * @param isPrettyPrinting true for indented output, false for compact single-line output.
+     */
+    public JsonSerializer(boolean isPrettyPrinting) {
+        GsonBuilder builder = new GsonBuilder().registerTypeAdapterFactory(new QuoteAdapterFactory());
+        if (isPrettyPrinting) {
+            builder.setPrettyPrinting();
+        }
+        this.gson = builder.create();
+    }
 
     /**
      * Converts an ApplicationData object into a JSON string.
@@ -56,5 +91,138 @@ public class JsonSerializer {
             return new ApplicationData();
         }
     }
-}
 
+    /**
+     * Writes an ApplicationData object as JSON directly to the given writer,
+     * without building the whole document as a String first.
+     */
+    public void serialize(ApplicationData appData, Writer writer) throws IOException {
+        assert appData != null : "Cannot serialize null ApplicationData";
+        assert writer != null : "Cannot serialize to a null writer";
+
+        try {
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            gson.toJson(appData, ApplicationData.class, jsonWriter);
+            jsonWriter.flush();
+        } catch (JsonIOException e) {
+            throw new IOException("Failed to write ApplicationData as JSON", e);
+        }
+    }
+
+    /**
+     * Reads an ApplicationData object directly from the given reader, without
+     * loading the whole file into a String or building a JSON tree.
+     * Behaves like deserialize(String) on empty or unparsable input.
+     */
+    public ApplicationData deserialize(Reader reader) throws IOException {
+        try {
+            return deserializeStrict(reader);
+        } catch (JsonParseException e) {
+            logger.warning("Failed to parse ApplicationData from JSON: " + e.getMessage());
+            return new ApplicationData();
+        }
+    }
+
+    /**
+     * Reads an ApplicationData object like deserialize(Reader), but reports empty or
+     * unparsable input instead of replacing it with empty data, so that the caller can
+     * fall back to a backup.
+     *
+     * @throws JsonParseException if the input is empty or is not valid ApplicationData JSON.
+     */
+    public ApplicationData deserializeStrict(Reader reader) throws IOException {
+        assert reader != null : "Cannot deserialize from a null reader";
+
+        ApplicationData appData;
+        try {
+            JsonReader jsonReader = gson.newJsonReader(reader);
+            appData = gson.fromJson(jsonReader, ApplicationData.class);
+        } catch (JsonIOException e) {
+            throw new IOException("Failed to read ApplicationData from JSON", e);
+        }
+        if (appData == null) {
+            throw new JsonParseException("No ApplicationData found in input");
+        }
+
+        if (appData.getQuoteList() != null) {
+            appData.getQuoteList().validate();
+        } else {
+            logger.warning("Loaded data contained a null QuoteList. Initializing a new one.");
+        }
+
+        return appData;
+    }
+
+    /**
+     * Writes an ApplicationData object as UTF-8 JSON to the given stream.
+     */
+    @Override
+    public void serialize(ApplicationData appData, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        serialize(appData, writer);
+        writer.flush();
+    }
+
+    /**
+     * Reads an ApplicationData object from UTF-8 JSON in the given stream.
+     *
+     * @throws JsonParseException if the input is empty or is not valid ApplicationData JSON.
+     */
+    @Override
+    public ApplicationData deserializeStrict(InputStream in) throws IOException {
+        return deserializeStrict(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes quotes through their getters, so that items which are not loaded yet (see ItemLoader)
+     * are read instead of being left out. The output is the same as Gson's default for a loaded quote,
+     * which is still used for reading.
+     */
+    private static class QuoteAdapterFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != Quote.class) {
+                return null;
+            }
+            TypeAdapter<Quote> delegate = gson.getDelegateAdapter(this, TypeToken.get(Quote.class));
+
+            return (TypeAdapter<T>) new TypeAdapter<Quote>() {
+                @Override
+                public void write(JsonWriter out, Quote quote) throws IOException {
+                    if (quote == null) {
+                        out.nullValue();
+                        return;
+                    }
+                    out.beginObject();
+                    out.name("quoteName").value(quote.getQuoteName());
+                    out.name("customerName").value(quote.getCustomerName());
+                    out.name("items");
+                    writeItems(out, quote.readItemStore());
+                    out.endObject();
+                }
+
+                @Override
+                public Quote read(JsonReader in) throws IOException {
+                    return delegate.read(in);
+                }
+            };
+        }
+
+        /**
+         * Writes items from their columns, with the fields Gson writes for an Item, so no Items are created.
+         */
+        private static void writeItems(JsonWriter out, ItemStore items) throws IOException {
+            out.beginArray();
+            for (int row = 0; row < items.size(); row++) {
+                out.beginObject();
+                out.name("itemName").value(items.getItemName(row));
+                out.name("priceCents").value(items.getPriceCents(row));
+                out.name("quantity").value(items.getQuantity(row));
+                out.name("taxBasisPoints").value(items.getTaxBasisPoints(row));
+                out.endObject();
+            }
+            out.endArray();
+        }
+    }
+}
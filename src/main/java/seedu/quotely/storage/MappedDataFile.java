@@ -0,0 +1,287 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.logging.Logger;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Item;
+import seedu.quotely.data.ItemLoader;
+import seedu.quotely.data.ItemStore;
+import seedu.quotely.data.LoadedQuoteCache;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Read-only access to a binary data file (see BinarySerializer) through a memory-mapped buffer.
+ * Opening the file only reads its header and index, so it takes the same time for any number of quotes.
+ * Quotes are materialized the first time they are accessed, and their items the first time those are used.
+ * Alternatively, all quote headers can be read into a modifiable QuoteList whose items are loaded on demand.
+ *
+ * <p>Errors found while materializing a quote are thrown as UncheckedIOException.
+ */
+public class MappedDataFile {
+    private static final Logger logger = LoggerConfig.getLogger(MappedDataFile.class);
+    private static final int HEADER_SIZE = 16;
+    private static final int TRAILER_SIZE = 8;
+    private static final int QUOTE_HEADER_SIZE = 28;
+    private static final int ITEM_SIZE = 20;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final long revision;
+    private final int indexOffset;
+    private final int companyNameRef;
+    private final int stringCount;
+    private final int stringOffsetsStart;
+    private final int quoteCount;
+    private final int quoteOffsetsStart;
+    // decoded on first use; racing decodes produce equal strings, so no locking is needed
+    private final String[] strings;
+
+    private MappedDataFile(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+
+        int size = buffer.limit();
+        if (size < HEADER_SIZE + TRAILER_SIZE || buffer.getInt(0) != BinarySerializer.MAGIC) {
+            throw new IOException("Not a Quotely binary data file: " + path);
+        }
+        int version = buffer.getInt(4);
+        if (version != BinarySerializer.VERSION) {
+            throw new IOException("Binary data version " + version + " is not the current version and cannot be "
+                    + "mapped, convert it again with DataFileConverter: " + path);
+        }
+        if (buffer.getInt(size - 4) != BinarySerializer.MAGIC) {
+            throw new IOException("Binary data file is truncated: " + path);
+        }
+        revision = buffer.getLong(8);
+
+        indexOffset = buffer.getInt(size - TRAILER_SIZE);
+        checkRange(indexOffset, 8, size - TRAILER_SIZE);
+        companyNameRef = buffer.getInt(indexOffset);
+        stringCount = buffer.getInt(indexOffset + 4);
+        checkRange(indexOffset + 8, 4L * stringCount + 4, size - TRAILER_SIZE);
+        stringOffsetsStart = indexOffset + 8;
+        quoteCount = buffer.getInt(stringOffsetsStart + 4 * stringCount);
+        quoteOffsetsStart = stringOffsetsStart + 4 * stringCount + 4;
+        if (quoteCount < 0 || quoteOffsetsStart + 4L * quoteCount != size - TRAILER_SIZE) {
+            throw new IOException("Corrupted binary data index: " + path);
+        }
+        strings = new String[stringCount];
+    }
+
+    /**
+     * Maps the given binary data file into memory and reads its index.
+     *
+     * @throws IOException if the file cannot be read, is larger than 2GB, or has no valid index.
+     */
+    public static MappedDataFile open(Path path) throws IOException {
+        assert path != null : "Path cannot be null";
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Data file is too large to be mapped: " + path);
+            }
+            // the mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            MappedDataFile file = new MappedDataFile(path, buffer);
+            logger.info("Mapped " + file.getQuoteCount() + " quotes from " + path);
+            return file;
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted binary data file: " + path, e);
+        }
+    }
+
+    public int getQuoteCount() {
+        return quoteCount;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public String getCompanyName() {
+        return readString(companyNameRef);
+    }
+
+    /**
+     * Reads the quote at the given position. Its items are read the first time they are used.
+     */
+    public Quote readQuote(int index) {
+        return readQuote(index, null);
+    }
+
+    /**
+     * Reads the quote at the given position, whose items are read when they are used
+     * and dropped when the cache evicts the quote.
+     */
+    public Quote readQuote(int index, LoadedQuoteCache itemCache) {
+        Objects.checkIndex(index, quoteCount);
+        int offset = buffer.getInt(quoteOffsetsStart + 4 * index);
+        if (offset < HEADER_SIZE || offset > indexOffset - QUOTE_HEADER_SIZE) {
+            throw corrupted("quote offset " + offset + " out of range");
+        }
+        return new Quote(readString(buffer.getInt(offset)), readString(buffer.getInt(offset + 4)),
+                new FileItemLoader(offset), itemCache, readItemCount(offset), buffer.getLong(offset + 12),
+                buffer.getLong(offset + 20));
+    }
+
+    /**
+     * Returns the data of this file, with a read-only QuoteList that materializes each quote
+     * on first access and keeps it afterwards.
+     */
+    public ApplicationData toApplicationData() {
+        return toApplicationData(new QuoteList(new QuoteView()));
+    }
+
+    /**
+     * Returns the data of this file in a regular, modifiable QuoteList. Every quote header is read now,
+     * while items are read when they are used and kept for at most the cache's capacity of quotes.
+     */
+    public ApplicationData toApplicationData(LoadedQuoteCache itemCache) {
+        assert itemCache != null : "Item cache cannot be null";
+
+        QuoteList quoteList = new QuoteList();
+        for (int i = 0; i < quoteCount; i++) {
+            Quote quote = readQuote(i, itemCache);
+            if (quoteList.hasQuote(quote.getQuoteName())) {
+                throw corrupted("quote " + quote.getQuoteName() + " appears twice");
+            }
+            quoteList.addQuote(quote);
+        }
+        return toApplicationData(quoteList);
+    }
+
+    private ApplicationData toApplicationData(QuoteList quoteList) {
+        String companyName = getCompanyName();
+        ApplicationData appData = new ApplicationData(quoteList,
+                companyName == null ? null : new CompanyName(companyName));
+        if (revision != 0) {
+            appData.setRevision(revision);
+        }
+        return appData;
+    }
+
+    private ItemStore readItems(int quoteOffset) {
+        int itemCount = readItemCount(quoteOffset);
+        int itemsStart = quoteOffset + QUOTE_HEADER_SIZE;
+
+        // rows are read straight into the columns, without an Item per row
+        ItemStore items = new ItemStore();
+        for (int i = 0; i < itemCount; i++) {
+            int offset = itemsStart + ITEM_SIZE * i;
+            items.addRow(readString(buffer.getInt(offset)), buffer.getLong(offset + 4), buffer.getInt(offset + 12),
+                    buffer.getInt(offset + 16));
+        }
+        return items;
+    }
+
+    private List<String> readItemNames(int quoteOffset) {
+        int itemCount = readItemCount(quoteOffset);
+        int itemsStart = quoteOffset + QUOTE_HEADER_SIZE;
+        List<String> names = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            names.add(readString(buffer.getInt(itemsStart + ITEM_SIZE * i)));
+        }
+        return names;
+    }
+
+    private int readItemCount(int quoteOffset) {
+        int itemCount = buffer.getInt(quoteOffset + 8);
+        if (itemCount < 0 || quoteOffset + QUOTE_HEADER_SIZE + (long) ITEM_SIZE * itemCount > indexOffset) {
+            throw corrupted("item count " + itemCount + " out of range");
+        }
+        return itemCount;
+    }
+
+    private String readString(int ref) {
+        if (ref == BinarySerializer.NULL_REF) {
+            return null;
+        }
+        if (ref < 0 || ref >= stringCount) {
+            throw corrupted("string reference " + ref + " out of range");
+        }
+        String s = strings[ref];
+        if (s == null) {
+            int offset = buffer.getInt(stringOffsetsStart + 4 * ref);
+            if (offset < HEADER_SIZE || offset > indexOffset - 4) {
+                throw corrupted("string offset " + offset + " out of range");
+            }
+            int length = buffer.getInt(offset);
+            if (length < 0 || length > BinarySerializer.MAX_STRING_BYTES || offset + 4L + length > indexOffset) {
+                throw corrupted("string of " + length + " bytes");
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(offset + 4, bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+            strings[ref] = s;
+        }
+        return s;
+    }
+
+    private UncheckedIOException corrupted(String detail) {
+        logger.warning("Corrupted binary data in " + path + ": " + detail);
+        return new UncheckedIOException(new IOException("Corrupted binary data: " + detail));
+    }
+
+    private static void checkRange(long start, long length, long end) throws IOException {
+        if (start < HEADER_SIZE || length < 0 || start + length > end) {
+            throw new IOException("Corrupted binary data index");
+        }
+    }
+
+    /**
+     * Reads the items of a quote from the mapping, or only their names, e.g. to index them.
+     */
+    private class FileItemLoader implements ItemLoader {
+        private final int quoteOffset;
+
+        private FileItemLoader(int quoteOffset) {
+            this.quoteOffset = quoteOffset;
+        }
+
+        @Override
+        public List<Item> loadItems() {
+            return readItems(quoteOffset);
+        }
+
+        @Override
+        public List<String> loadItemNames() {
+            return readItemNames(quoteOffset);
+        }
+    }
+
+    /**
+     * Read-only list of the quotes in the file, materializing each one on first access.
+     */
+    private class QuoteView extends AbstractList<Quote> implements RandomAccess {
+        private final Quote[] quotes = new Quote[quoteCount];
+
+        @Override
+        public synchronized Quote get(int index) {
+            Objects.checkIndex(index, quoteCount);
+            if (quotes[index] == null) {
+                quotes[index] = readQuote(index);
+            }
+            return quotes[index];
+        }
+
+        @Override
+        public int size() {
+            return quoteCount;
+        }
+    }
+}
@@ -1,19 +1,50 @@
 package seedu.quotely.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
+
+import com.google.gson.JsonParseException;
+
+import seedu.quotely.data.LoadedQuoteCache;
 import seedu.quotely.util.LoggerConfig;
 
 /**
  * Manages saving and loading of Quotely application data to a local file.
+ * Saves are atomic: data is written to a temporary file, forced to disk and then renamed
+ * over the data file, keeping the previous versions as rotated backups.
  */
 public class Storage {
 
     private static final Logger logger = LoggerConfig.getLogger(Storage.class);
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_BACKUP_COUNT = 3;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final String MAPPED_COPY_SUFFIX = ".map";
     private final Path filePath;
+    private final int backupCount;
+
+    /**
+     * Writes data to an open stream, used to share the atomic save logic between save methods.
+     */
+    private interface DataWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     /**
      * Constructs a Storage object to manage data at the specified file path.
@@ -22,10 +53,23 @@ public class Storage {
      * @param fileName  The name of the file (e.g., "quotely.json").
      */
     public Storage(String directory, String fileName) {
+        this(directory, fileName, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Constructs a Storage object that keeps the given number of backups of the data file.
+     *
+     * @param directory   The directory to store the file in (e.g., "data").
+     * @param fileName    The name of the file (e.g., "quotely.json").
+     * @param backupCount The number of previous versions to keep (e.g., "quotely.json.bak1").
+     */
+    public Storage(String directory, String fileName, int backupCount) {
         assert directory != null && !directory.trim().isEmpty() : "Directory cannot be null or empty";
         assert fileName != null && !fileName.trim().isEmpty() : "File name cannot be null or empty";
+        assert backupCount >= 0 : "Backup count cannot be negative";
 
         this.filePath = Paths.get(directory, fileName);
+        this.backupCount = backupCount;
         logger.info("Storage initialized. Data file path: " + this.filePath);
     }
 
@@ -38,6 +82,14 @@ public class Storage {
         return this.filePath;
     }
 
+    /**
+     * Returns the file path of the given backup, where 1 is the most recent.
+     */
+    public Path getBackupFilePath(int index) {
+        assert index >= 1 : "Backup index starts from 1";
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX + index);
+    }
+
     /**
      * Ensures that the directory for the data file exists.
      */
@@ -78,13 +130,241 @@ public class Storage {
         assert data != null : "Data to be saved cannot be null";
 
         try {
+            writeAtomically(out -> out.write(data.getBytes(StandardCharsets.UTF_8)));
+            logger.info("Successfully saved data to " + filePath);
+        } catch (IOException e) {
+            logger.severe("Failed to save data to file: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Loads the application data by streaming the file through the serializer,
+     * so memory use does not include a copy of the whole file.
+     * If the data file is missing, unreadable or corrupted, the newest valid backup is loaded instead.
+     * Returns new, empty ApplicationData if there is no data file or backup.
+     *
+     * @throws IOException        if neither the data file nor any backup could be read.
+     * @throws JsonParseException if neither the data file nor any backup contains valid data.
+     */
+    public ApplicationData loadData(DataSerializer serializer) throws IOException {
+        assert serializer != null : "Serializer cannot be null";
+
+        List<Path> candidates = new ArrayList<>();
+        candidates.add(filePath);
+        for (int i = 1; i <= backupCount; i++) {
+            candidates.add(getBackupFilePath(i));
+        }
+
+        Exception firstError = null;
+        for (Path candidate : candidates) {
+            if (!Files.exists(candidate) || isEmptyFile(candidate)) {
+                continue; // nothing saved in this file
+            }
+            try {
+                ApplicationData appData = readData(candidate, serializer);
+                if (candidate.equals(filePath)) {
+                    logger.info("Successfully loaded data from " + filePath);
+                } else {
+                    logger.warning("Data file could not be loaded, recovered data from backup " + candidate);
+                }
+                return appData;
+            } catch (IOException | JsonParseException e) {
+                logger.warning("Failed to load data from " + candidate + ": " + e.getMessage());
+                if (firstError == null) {
+                    firstError = e;
+                }
+            }
+        }
+
+        if (firstError == null) {
+            logger.warning("Data file not found, will attempt to create a new one: " + filePath);
             ensureDirectoryExists();
-            Files.write(filePath, data.getBytes());
+            return new ApplicationData();
+        }
+
+        logger.severe("Failed to read data from file or any backup: " + filePath);
+        if (firstError instanceof IOException) {
+            throw (IOException) firstError;
+        }
+        throw (JsonParseException) firstError;
+    }
+
+    /**
+     * Saves the application data by streaming it through the serializer to the file.
+     * The serializer decides the file format, e.g. JsonSerializer or BinarySerializer.
+     */
+    public void saveData(ApplicationData appData, DataSerializer serializer) throws IOException {
+        assert appData != null : "Data to be saved cannot be null";
+        assert serializer != null : "Serializer cannot be null";
+
+        try {
+            writeAtomically(out -> serializer.serialize(appData, out));
             logger.info("Successfully saved data to " + filePath);
         } catch (IOException e) {
             logger.severe("Failed to save data to file: " + e.getMessage());
             throw e;
         }
     }
-}
 
+    /**
+     * Maps the binary data file into memory for read-only use, see MappedDataFile.
+     * Only the index is read here, so the time taken does not depend on the number of quotes.
+     * Returns new, empty ApplicationData if there is no data file.
+     *
+     * @throws IOException if the data file is not a binary data file with an index.
+     */
+    public ApplicationData mapData() throws IOException {
+        if (!Files.exists(filePath) || isEmptyFile(filePath)) {
+            logger.warning("Data file not found, nothing to map: " + filePath);
+            return new ApplicationData();
+        }
+        return MappedDataFile.open(filePath).toApplicationData();
+    }
+
+    /**
+     * Maps a private copy of the binary data file into memory and reads every quote header into a modifiable
+     * QuoteList. Items are read from the mapping when they are used, and at most the cache's capacity of quotes
+     * keep their items in memory. Returns new, empty ApplicationData if there is no data file.
+     *
+     * <p>The data file itself is not mapped, since saves replace it while the mapping is in use, which Windows
+     * does not allow for a mapped file. The copy is deleted once it is mapped where the platform allows it,
+     * and otherwise by the next call.
+     *
+     * @throws IOException if the data file is not a binary data file with an index.
+     */
+    public ApplicationData mapData(LoadedQuoteCache itemCache) throws IOException {
+        if (!Files.exists(filePath) || isEmptyFile(filePath)) {
+            logger.warning("Data file not found, nothing to map: " + filePath);
+            return new ApplicationData();
+        }
+
+        Path directory = filePath.toAbsolutePath().getParent();
+        deleteMappedCopies(directory);
+        Path copy = Files.createTempFile(directory, filePath.getFileName() + ".", MAPPED_COPY_SUFFIX);
+        try {
+            Files.copy(filePath, copy, StandardCopyOption.REPLACE_EXISTING);
+            return MappedDataFile.open(copy).toApplicationData(itemCache);
+        } finally {
+            deleteMappedCopy(copy);
+        }
+    }
+
+    /**
+     * Maps the binary data file itself like mapData(), but reads every quote header into a modifiable QuoteList
+     * like mapData(LoadedQuoteCache), e.g. to replay journaled changes in memory in read-only mode.
+     * Nothing may be saved to the data file while it is mapped.
+     *
+     * @throws IOException if the data file is not a binary data file with an index.
+     */
+    public ApplicationData mapDataInPlace(LoadedQuoteCache itemCache) throws IOException {
+        if (!Files.exists(filePath) || isEmptyFile(filePath)) {
+            logger.warning("Data file not found, nothing to map: " + filePath);
+            return new ApplicationData();
+        }
+        return MappedDataFile.open(filePath).toApplicationData(itemCache);
+    }
+
+    private ApplicationData readData(Path path, DataSerializer serializer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             InputStream in = new BufferedInputStream(Channels.newInputStream(channel), IO_BUFFER_SIZE)) {
+            return serializer.deserializeStrict(in);
+        }
+    }
+
+    /**
+     * Writes the data to a temporary file, forces it to disk, then atomically renames it
+     * over the data file, so a crash mid-write never leaves a truncated data file.
+     */
+    private void writeAtomically(DataWriter dataWriter) throws IOException {
+        ensureDirectoryExists();
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), IO_BUFFER_SIZE);
+            dataWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+
+        rotateBackups();
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory();
+    }
+
+    /**
+     * Shifts each backup one place older and keeps the current data file as the newest backup.
+     * The data file itself stays in place until it is replaced by the rename.
+     */
+    private void rotateBackups() throws IOException {
+        if (backupCount == 0 || !Files.exists(filePath)) {
+            return;
+        }
+        for (int i = backupCount - 1; i >= 1; i--) {
+            Path backup = getBackupFilePath(i);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestBackup = getBackupFilePath(1);
+        Files.deleteIfExists(newestBackup);
+        try {
+            // a hard link keeps the old contents once the data file is replaced, without copying them
+            Files.createLink(newestBackup, filePath);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(filePath, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Makes the rename durable where the platform supports syncing a directory.
+     */
+    private void forceDirectory() {
+        Path parentDir = filePath.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+        try (FileChannel directory = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not sync data directory, skipping: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes copies of the data file left mapped by earlier runs. Copies still mapped by a running Quotely
+     * cannot be deleted on Windows and are kept.
+     */
+    private void deleteMappedCopies(Path directory) {
+        try (DirectoryStream<Path> copies = Files.newDirectoryStream(directory,
+                filePath.getFileName() + ".*" + MAPPED_COPY_SUFFIX)) {
+            for (Path copy : copies) {
+                deleteMappedCopy(copy);
+            }
+        } catch (IOException e) {
+            logger.fine("Could not list mapped copies of the data file: " + e.getMessage());
+        }
+    }
+
+    private static void deleteMappedCopy(Path copy) {
+        try {
+            // a mapping stays valid after its file is deleted, where the platform allows deleting it
+            Files.deleteIfExists(copy);
+        } catch (IOException e) {
+            logger.fine("Mapped copy is still in use, deleting it later: " + copy);
+        }
+    }
+
+    private static boolean isEmptyFile(Path path) {
+        try {
+            return Files.exists(path) && Files.size(path) == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
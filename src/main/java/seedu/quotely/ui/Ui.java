@@ -1,13 +1,27 @@
 package seedu.quotely.ui;
 
 import seedu.quotely.data.CompanyName;
-import seedu.quotely.data.Item;
+import seedu.quotely.data.ItemStore;
+import seedu.quotely.data.Money;
 import seedu.quotely.data.Quote;
 import seedu.quotely.data.QuotelyState;
 
 import java.util.Scanner;
 
 public class Ui {
+    // rows of a quote's item table built before they are flushed to the console, so a large quote is not built
+    // into one string; every row is still printed
+    private static final int ITEM_ROWS_PER_FLUSH = 200;
+    // columns of the compact quote table: number, quote name, customer name, item count, total
+    private static final int QUOTE_NAME_COLUMN_WIDTH = 24;
+    private static final int CUSTOMER_NAME_COLUMN_WIDTH = 20;
+    private static final String QUOTE_ROW_HEADER_FORMAT = "%6s | %-" + QUOTE_NAME_COLUMN_WIDTH + "s | %-"
+            + CUSTOMER_NAME_COLUMN_WIDTH + "s | %5s | %14s";
+    private static final String QUOTE_ROW_FORMAT = "%6d | %-" + QUOTE_NAME_COLUMN_WIDTH + "s | %-"
+            + CUSTOMER_NAME_COLUMN_WIDTH + "s | %5d | %14s";
+    private static final int QUOTE_ROW_WIDTH = 6 + 3 + QUOTE_NAME_COLUMN_WIDTH + 3 + CUSTOMER_NAME_COLUMN_WIDTH
+            + 3 + 5 + 3 + 14;
+
     private static Ui ui = null;
     private Scanner scanner;
 
@@ -84,15 +98,21 @@ public class Ui {
                 (wUnit - 1) + ".2f | %" +
                 (wTax - 1) + ".2f %%|%n";
 
-        if (q.getItems().isEmpty()) {
+        ItemStore items = q.getItemStore();
+        if (items.isEmpty()) {
             stringBuilder.append(String.format(emptyRowFmt, "(no items)", "-", "-", "-"));
         } else {
-            for (Item it : q.getItems()) {
-                String name = it.getItemName();
+            for (int row = 0; row < items.size(); row++) {
+                if (row > 0 && row % ITEM_ROWS_PER_FLUSH == 0) {
+                    System.out.print(stringBuilder);
+                    stringBuilder.setLength(0);
+                }
+                String name = items.getItemName(row);
                 if (name.length() > wDesc) {
                     name = name.substring(0, wDesc);
                 }
-                stringBuilder.append(String.format(itemFmt, name, it.getQuantity(), it.getPrice(), it.getTaxRate()));
+                stringBuilder.append(String.format(itemFmt, name, items.getQuantity(row),
+                        Money.toDecimal(items.getPriceCents(row)), Money.toPercent(items.getTaxBasisPoints(row))));
             }
         }
     }
@@ -116,6 +136,29 @@ public class Ui {
             "Total:", "$" + formatAmount(q.getQuoteTotal()).trim()));
     }
 
+    /**
+     * Prints the header of the compact quote table, which has one row per quote, see showQuoteRow().
+     */
+    public void showQuoteTableHeader() {
+        System.out.println(String.format(QUOTE_ROW_HEADER_FORMAT, "#", "Quote", "Customer", "Items", "Total"));
+        System.out.println("-".repeat(QUOTE_ROW_WIDTH));
+    }
+
+    /**
+     * Prints a quote as one row of the compact quote table, straight away rather than collected with other rows.
+     * Names longer than their column are cut.
+     */
+    public void showQuoteRow(int number, Quote q) {
+        System.out.println(String.format(QUOTE_ROW_FORMAT, number,
+                truncate(q.getQuoteName(), QUOTE_NAME_COLUMN_WIDTH),
+                truncate(q.getCustomerName(), CUSTOMER_NAME_COLUMN_WIDTH),
+                q.getItemCount(), "$" + Money.format(q.getQuoteTotalCents())));
+    }
+
+    private static String truncate(String text, int width) {
+        return text.length() > width ? text.substring(0, width) : text;
+    }
+
     public void showQuote(CompanyName companyName, Quote q) {
         // ===== choose ONE inner width for the whole box =====
         final int boxInner = 60; // chars between the two side pipes
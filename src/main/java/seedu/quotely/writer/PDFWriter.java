@@ -1,32 +1,47 @@
 package seedu.quotely.writer;
 
 import com.lowagie.text.Document;
-import com.lowagie.text.Font;
+import com.lowagie.text.DocumentException;
 import com.lowagie.text.Paragraph;
 import com.lowagie.text.Chunk;
 import com.lowagie.text.Element;
-import com.lowagie.text.PageSize;
+import com.lowagie.text.ExceptionConverter;
 import com.lowagie.text.Phrase;
 import com.lowagie.text.Rectangle;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfWriter;
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
 import java.util.List;
-import java.awt.Color;
+import java.util.logging.Logger;
 
 import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.ItemStore;
+import seedu.quotely.data.Money;
 import seedu.quotely.data.Quote;
-import seedu.quotely.data.Item;
-import seedu.quotely.ui.Ui;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
 
 public class PDFWriter {
+    private static final Logger logger = LoggerConfig.getLogger(PDFWriter.class);
+    // item rows laid out at a time; each chunk is written out before the next one is built
+    private static final int ITEM_ROWS_PER_CHUNK = 200;
     private static PDFWriter writer = null;
 
+    private final PdfCache cache = new PdfCache();
+
     private PDFWriter() {
     }
 
-    public static PDFWriter getInstance() {
+    public static synchronized PDFWriter getInstance() {
         if (writer == null) {
             writer = new PDFWriter();
         }
@@ -45,122 +60,219 @@ public class PDFWriter {
         return sanitizedFilename + ".pdf";
     }
 
-    public void writeQuoteToPDF(Quote quote, CompanyName companyName, String filename) {
-        List<Item> items = quote.getItems();
-        Ui ui = Ui.getInstance();
+    /**
+     * Writes a quote to a PDF file without showing anything to the user.
+     * Every call uses its own Document, so quotes can be written from several threads at once.
+     *
+     * @param filename File name without extension, made safe by getSecureFilename().
+     * @return The name of the file written.
+     */
+    public String writeQuoteToFile(Quote quote, CompanyName companyName, String filename) throws QuotelyException {
+        return writeQuoteToFile(quote, companyName, Paths.get(""), filename);
+    }
 
+    /**
+     * Writes a quote to a PDF file in the given directory, see writeQuoteToFile(Quote, CompanyName, String).
+     */
+    public String writeQuoteToFile(Quote quote, CompanyName companyName, Path directory, String filename)
+            throws QuotelyException {
+        return writeQuotesToFile(List.of(quote), companyName, directory, filename);
+    }
+
+    /**
+     * Writes several quotes into one PDF file, each starting on a new page.
+     * If the file already holds a PDF of the same content, as recorded by PdfCache, it is left as it is.
+     * Otherwise the PDF is rendered straight into a temporary file next to it, which then replaces the file.
+     *
+     * @return The name of the file written.
+     */
+    public String writeQuotesToFile(List<Quote> quotes, CompanyName companyName, Path directory, String filename)
+            throws QuotelyException {
+        LocalDate date = LocalDate.now();
+        String key = PdfCache.computeKey(quotes, companyName, date);
+        String secureFilename = getSecureFilename(filename);
+        Path file = directory.resolve(secureFilename);
+        if (cache.isUpToDate(file, key)) {
+            logger.fine("Keeping " + file + ", which already holds the PDF " + key);
+            return secureFilename;
+        }
+
+        cache.forget(file);
+        Path tempFile = file.resolveSibling(secureFilename + ".tmp");
         try {
-            Document document = new Document(PageSize.A4, 50, 50, 50, 50);
-
-            filename = getSecureFilename(filename);
-            FileOutputStream fos;
-            try {
-                fos = new FileOutputStream(filename);
-            } catch (Exception e) {
-                ui.showMessage(e.getMessage());
-                return;
+            if (Files.isDirectory(file)) {
+                // moving the temporary file would replace an empty directory
+                throw new FileSystemException(file.toString(), null, "Is a directory");
             }
-            PdfWriter writer = PdfWriter.getInstance(document, fos);
-            document.open();
-
-            // Add quotation title
-            Font titleFont = new Font(Font.HELVETICA, 20, Font.BOLD);
-            Paragraph title = new Paragraph("QUOTATION", titleFont);
-            title.setAlignment(Element.ALIGN_CENTER);
-            document.add(title);
-
-            document.add(Chunk.NEWLINE);
-
-            // Add quotation info
-            Font infoFont = new Font(Font.HELVETICA, 12);
-            Paragraph invoiceInfo = new Paragraph(
-                "Quotation Name: " + quote.getQuoteName() + "\n" + 
-                "Company Name: " + companyName.getCompanyName() + "\n" + 
-                "Customer Name: " + quote.getCustomerName() + "\n" +
-                "Date: " + java.time.LocalDate.now().toString(), infoFont
-            );
-            document.add(invoiceInfo);
-
-            document.add(Chunk.NEWLINE);
-
-            // Table header
-            Font headFont = new Font(Font.HELVETICA, 12, Font.BOLD);
-            String[] headers = { "Description", "Unit Price", "Qty", "Taxed", "Amount" };
-            int columnNumber = headers.length;
-
-            // Add table for items
-            PdfPTable table = new PdfPTable(columnNumber); // 5 columns
-            table.setWidthPercentage(100);
-            table.setWidths(new float[] { 4, 2, 1, 2, 2 });
-
-            for (String h : headers) {
-                PdfPCell cell = new PdfPCell(new Phrase(h, headFont));
-                cell.setHorizontalAlignment(Element.ALIGN_CENTER);
-                cell.setBackgroundColor(new Color(230, 230, 230));
-                table.addCell(cell);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writeQuotes(quotes, companyName, date, out);
             }
-            double subtotal = 0.0;
-            double totalTax = 0.0;
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Could not write " + file + ": " + e);
+            deleteQuietly(tempFile);
+            throw new QuotelyException(QuotelyException.ErrorType.PDF_WRITE_ERROR, describe(e), e);
+        } catch (QuotelyException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+        cache.record(file, key);
+        return secureFilename;
+    }
 
-            // Table rows
-            for (Item item : items) {
-                table.addCell(new PdfPCell(new Phrase(item.getItemName())));
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.fine("Could not delete " + file + ": " + e);
+        }
+    }
 
-                PdfPCell priceCell = new PdfPCell(new Phrase(String.format("%.2f", item.getPrice())));
-                priceCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
-                table.addCell(priceCell);
+    /**
+     * Returns the record of which PDFs the written files hold.
+     */
+    PdfCache getCache() {
+        return cache;
+    }
 
-                PdfPCell qtyCell = new PdfPCell(new Phrase(String.valueOf(item.getQuantity())));
-                qtyCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-                table.addCell(qtyCell);
+    /**
+     * Renders a quote as a PDF to any stream, such as an in-memory buffer or an entry of an archive,
+     * laid out with PdfStyle.DEFAULT. The stream is flushed but not closed, so more can be written to it.
+     *
+     * @throws QuotelyException PDF_RENDER_ERROR if the quote cannot be laid out,
+     *     or PDF_WRITE_ERROR if writing to the stream fails.
+     */
+    public void writeQuote(Quote quote, CompanyName companyName, OutputStream out) throws QuotelyException {
+        writeQuotes(List.of(quote), companyName, out);
+    }
 
-                PdfPCell taxCell = new PdfPCell(new Phrase(String.format("%.2f %%", item.getTaxRate())));
-                taxCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-                table.addCell(taxCell);
+    /**
+     * Renders several quotes into one PDF document, each starting on a new page, see writeQuote().
+     * All quotes share one Document and PdfWriter, so fonts and other resources are written only once.
+     */
+    public void writeQuotes(List<Quote> quotes, CompanyName companyName, OutputStream out) throws QuotelyException {
+        writeQuotes(quotes, companyName, LocalDate.now(), out);
+    }
 
-                PdfPCell totalCell = new PdfPCell(new Phrase(String.format("%.2f",
-                        item.getItemTotalTax() + item.getItemTotalPriceWithoutTax())));
-                totalCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
-                table.addCell(totalCell);
+    private void writeQuotes(List<Quote> quotes, CompanyName companyName, LocalDate date, OutputStream out)
+            throws QuotelyException {
+        assert !quotes.isEmpty() : "There must be at least one quote to write";
+        try {
+            renderQuotes(quotes, companyName, date, out);
+        } catch (DocumentException e) {
+            logger.warning("Could not lay out " + quotes.size() + " quotes: " + e);
+            throw new QuotelyException(QuotelyException.ErrorType.PDF_RENDER_ERROR, describe(e), e);
+        } catch (ExceptionConverter e) {
+            // iText wraps the exceptions of the stream it writes to
+            Exception cause = e.getException();
+            logger.warning("Could not write " + quotes.size() + " quotes: " + cause);
+            QuotelyException.ErrorType errorType = cause instanceof IOException
+                    ? QuotelyException.ErrorType.PDF_WRITE_ERROR
+                    : QuotelyException.ErrorType.PDF_RENDER_ERROR;
+            throw new QuotelyException(errorType, describe(cause), cause);
+        }
+    }
 
-                subtotal += item.getItemTotalPriceWithoutTax();
-                totalTax += item.getItemTotalTax();
+    private static String describe(Exception e) {
+        return e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    }
+
+    private void renderQuotes(List<Quote> quotes, CompanyName companyName, LocalDate date, OutputStream out)
+            throws DocumentException {
+        PdfStyle style = PdfStyle.DEFAULT;
+        Document document = new Document(style.getPageSize(), style.getMargin(), style.getMargin(),
+                style.getMargin(), style.getMargin());
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        document.open();
+        for (int i = 0; i < quotes.size(); i++) {
+            if (i > 0) {
+                document.newPage();
             }
+            addQuote(document, quotes.get(i), companyName, date, style);
+        }
+        document.close();
+        writer.close();
+    }
+
+    private void addQuote(Document document, Quote quote, CompanyName companyName, LocalDate date,
+                          PdfStyle style) throws DocumentException {
+        ItemStore items = quote.getItemStore();
+
+        // Add quotation title
+        Paragraph title = new Paragraph("QUOTATION", style.getTitleFont());
+        title.setAlignment(Element.ALIGN_CENTER);
+        document.add(title);
+
+        document.add(Chunk.NEWLINE);
+
+        // Add quotation info
+        Paragraph invoiceInfo = new Paragraph(
+            "Quotation Name: " + quote.getQuoteName() + "\n" +
+            "Company Name: " + companyName.getCompanyName() + "\n" +
+            "Customer Name: " + quote.getCustomerName() + "\n" +
+            "Date: " + date.toString(), style.getInfoFont()
+        );
+        document.add(invoiceInfo);
 
-            PdfPCell emptyCell = new PdfPCell(new Phrase(""));
-            emptyCell.setColspan(columnNumber - 2);
-            emptyCell.setBorder(Rectangle.NO_BORDER);
-
-            // Add summary rows(subtotal, total tax, grand total)
-            addSummaryRow(table, "Subtotal", subtotal, columnNumber);
-            addSummaryRow(table, "Total Tax", totalTax, columnNumber);
-            addSummaryRow(table, "Grand Total", subtotal + totalTax, columnNumber);
-            
-            document.add(table);
-
-            document.close();
-            writer.close();
-            fos.close();
-            ui.showMessage("Exporting quote: " + quote.getQuoteName() + 
-                " to " + filename);
-        } catch (Exception e) {
-            e.printStackTrace();
+        document.add(Chunk.NEWLINE);
+
+        // Add table for items. The table is added to the document every ITEM_ROWS_PER_CHUNK rows, which writes
+        // out and drops the rows added so far, so a quote with thousands of items is not held as one table
+        int columnNumber = style.getColumnCount();
+        PdfPTable table = new PdfPTable(columnNumber);
+        table.setWidthPercentage(100);
+        table.setWidths(style.getColumnWidths());
+        table.setHeaderRows(1);
+        table.setComplete(false);
+
+        for (int column = 0; column < columnNumber; column++) {
+            PdfPCell cell = new PdfPCell(new Phrase(style.getHeader(column), style.getHeadFont()));
+            cell.setHorizontalAlignment(Element.ALIGN_CENTER);
+            cell.setBackgroundColor(style.getHeaderBackground());
+            table.addCell(cell);
+        }
+        // Table rows, with amounts formatted from cents rather than by String.format()
+        for (int row = 0; row < items.size(); row++) {
+            if (row > 0 && row % ITEM_ROWS_PER_CHUNK == 0) {
+                document.add(table);
+            }
+            table.addCell(new PdfPCell(new Phrase(items.getItemName(row), style.getCellFont())));
+            addCell(table, Money.format(items.getPriceCents(row)), Element.ALIGN_RIGHT, style);
+            addCell(table, String.valueOf(items.getQuantity(row)), Element.ALIGN_CENTER, style);
+            // basis points are hundredths of a percent, so they format like cents
+            addCell(table, Money.format(items.getTaxBasisPoints(row)) + " %", Element.ALIGN_CENTER, style);
+            long amountCents = items.getItemTotalCents(row) + Money.roundScaledTax(items.getItemScaledTax(row));
+            addCell(table, Money.format(amountCents), Element.ALIGN_RIGHT, style);
         }
+
+        // Add summary rows(subtotal, total tax, grand total), kept up to date by the quote
+        addSummaryRow(table, "Subtotal", quote.getQuoteSubtotalCents(), style);
+        addSummaryRow(table, "Total Tax", quote.getQuoteTaxCents(), style);
+        addSummaryRow(table, "Grand Total", quote.getQuoteTotalCents(), style);
+
+        table.setComplete(true);
+        document.add(table);
+    }
+
+    private void addCell(PdfPTable table, String text, int alignment, PdfStyle style) {
+        PdfPCell cell = new PdfPCell(new Phrase(text, style.getCellFont()));
+        cell.setHorizontalAlignment(alignment);
+        table.addCell(cell);
     }
 
-    private void addSummaryRow(PdfPTable table, String label, double amount, int columnSpan) {
-        Font headFont = new Font(Font.HELVETICA, 12, Font.BOLD);
+    private void addSummaryRow(PdfPTable table, String label, long amountCents, PdfStyle style) {
         PdfPCell emptyCell = new PdfPCell(new Phrase(""));
-        emptyCell.setColspan(columnSpan - 2);
+        emptyCell.setColspan(style.getColumnCount() - 2);
         emptyCell.setBorder(Rectangle.NO_BORDER);
         table.addCell(emptyCell);
 
-        PdfPCell labelCell = new PdfPCell(new Phrase(label, headFont));
+        PdfPCell labelCell = new PdfPCell(new Phrase(label, style.getHeadFont()));
         labelCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
         labelCell.setBorder(Rectangle.NO_BORDER);
         table.addCell(labelCell);
 
-        PdfPCell amountCell = new PdfPCell(new Phrase(String.format("$ %.2f", amount), headFont));
+        PdfPCell amountCell = new PdfPCell(new Phrase("$ " + Money.format(amountCents), style.getHeadFont()));
         amountCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
         amountCell.setBorder(Rectangle.NO_BORDER);
         table.addCell(amountCell);
@@ -0,0 +1,149 @@
+package seedu.quotely.writer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.ItemStore;
+import seedu.quotely.data.Quote;
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Remembers what each written PDF holds, so a PDF file that already holds the same content is not written again.
+ * The content is identified by a hash of everything printed in the PDF: the names, customers and items of the quotes,
+ * the company name and the date. The hash is kept next to the PDF in a sidecar file named {@code <file>.sha256},
+ * together with the size and modification time the PDF had when it was written, so the record survives restarts and
+ * a PDF changed or replaced since is written again. A changed quote hashes to a different key, so an outdated PDF
+ * is never kept.
+ */
+public class PdfCache {
+    private static final Logger logger = LoggerConfig.getLogger(PdfCache.class);
+    private static final String SIDECAR_SUFFIX = ".sha256";
+
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * Returns the SHA-256 hash, in hex, of the content of a PDF of the given quotes printed on the given date.
+     */
+    public static String computeKey(List<Quote> quotes, CompanyName companyName, LocalDate date) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform must support SHA-256
+            throw new IllegalStateException(e);
+        }
+        // writeUTF() prefixes every string with its length, so different fields cannot run into each other
+        try (DataOutputStream out = new DataOutputStream(
+                new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            out.writeUTF(companyName.getCompanyName());
+            out.writeUTF(date.toString());
+            out.writeInt(quotes.size());
+            for (Quote quote : quotes) {
+                out.writeUTF(quote.getQuoteName());
+                out.writeUTF(quote.getCustomerName());
+                ItemStore items = quote.getItemStore();
+                out.writeInt(items.size());
+                for (int row = 0; row < items.size(); row++) {
+                    out.writeUTF(items.getItemName(row));
+                    out.writeLong(items.getPriceCents(row));
+                    out.writeInt(items.getQuantity(row));
+                    out.writeInt(items.getTaxBasisPoints(row));
+                }
+            }
+        } catch (IOException e) {
+            // nothing is written anywhere, so this cannot happen
+            throw new UncheckedIOException(e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns the sidecar file holding the key of a PDF file.
+     */
+    public static Path getSidecarPath(Path pdfFile) {
+        return pdfFile.resolveSibling(pdfFile.getFileName() + SIDECAR_SUFFIX);
+    }
+
+    /**
+     * Returns whether the PDF file exists and still holds the content with the given key, as recorded by record().
+     */
+    public boolean isUpToDate(Path pdfFile, String key) {
+        boolean isUpToDate = key.equals(readKey(pdfFile));
+        synchronized (this) {
+            if (isUpToDate) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+        return isUpToDate;
+    }
+
+    /**
+     * Records that the PDF file, as it is now, holds the content with the given key.
+     * A record that cannot be written is only logged, since the PDF is then merely written again next time.
+     */
+    public void record(Path pdfFile, String key) {
+        Path sidecar = getSidecarPath(pdfFile);
+        try {
+            String record = key + " " + Files.size(pdfFile) + " " + Files.getLastModifiedTime(pdfFile).toMillis();
+            Files.writeString(sidecar, record, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Could not record the content of " + pdfFile + ": " + e);
+        }
+    }
+
+    /**
+     * Forgets what the PDF file holds, e.g. before it is replaced.
+     */
+    public void forget(Path pdfFile) {
+        try {
+            Files.deleteIfExists(getSidecarPath(pdfFile));
+        } catch (IOException e) {
+            logger.warning("Could not delete " + getSidecarPath(pdfFile) + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the key recorded for the PDF file, or null if there is none or the file was changed since.
+     */
+    private static String readKey(Path pdfFile) {
+        try {
+            String[] record = Files.readString(getSidecarPath(pdfFile), StandardCharsets.UTF_8).trim().split(" ");
+            if (record.length != 3
+                    || Long.parseLong(record[1]) != Files.size(pdfFile)
+                    || Long.parseLong(record[2]) != Files.getLastModifiedTime(pdfFile).toMillis()) {
+                return null;
+            }
+            return record[0];
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | NumberFormatException e) {
+            logger.fine("Ignoring the record of " + pdfFile + ": " + e);
+            return null;
+        }
+    }
+
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.quotely.writer;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Rectangle;
+
+import java.awt.Color;
+
+/**
+ * Fonts, colours and layout of an exported quotation, created once and shared by every export.
+ * Nothing in a style is changed after it is created, so it can be used by several exports at the same time;
+ * the fonts it returns must not be changed either.
+ */
+public final class PdfStyle {
+    /** The style of every quotation exported by Quotely. */
+    public static final PdfStyle DEFAULT = new PdfStyle();
+
+    private static final String[] HEADERS = { "Description", "Unit Price", "Qty", "Taxed", "Amount" };
+    private static final float[] COLUMN_WIDTHS = { 4, 2, 1, 2, 2 };
+
+    private final Rectangle pageSize = PageSize.A4;
+    private final float margin = 50;
+    private final Font titleFont = new Font(Font.HELVETICA, 20, Font.BOLD);
+    private final Font infoFont = new Font(Font.HELVETICA, 12);
+    private final Font headFont = new Font(Font.HELVETICA, 12, Font.BOLD);
+    private final Font cellFont = new Font(Font.HELVETICA, 12);
+    private final Color headerBackground = new Color(230, 230, 230);
+
+    private PdfStyle() {
+    }
+
+    public Rectangle getPageSize() {
+        return pageSize;
+    }
+
+    public float getMargin() {
+        return margin;
+    }
+
+    public Font getTitleFont() {
+        return titleFont;
+    }
+
+    public Font getInfoFont() {
+        return infoFont;
+    }
+
+    /**
+     * Returns the bold font of table headers and summary rows.
+     */
+    public Font getHeadFont() {
+        return headFont;
+    }
+
+    public Font getCellFont() {
+        return cellFont;
+    }
+
+    public Color getHeaderBackground() {
+        return headerBackground;
+    }
+
+    public int getColumnCount() {
+        return HEADERS.length;
+    }
+
+    public String getHeader(int column) {
+        return HEADERS[column];
+    }
+
+    /**
+     * Returns a copy of the relative column widths of the item table.
+     */
+    public float[] getColumnWidths() {
+        return COLUMN_WIDTHS.clone();
+    }
+}
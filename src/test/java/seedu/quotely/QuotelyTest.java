@@ -1,12 +1,187 @@
 package seedu.quotely;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.storage.ApplicationData;
+import seedu.quotely.storage.ChangeJournal;
+import seedu.quotely.storage.JournalEntry;
+import seedu.quotely.storage.JsonSerializer;
+import seedu.quotely.storage.Storage;
+
 class QuotelyTest {
     @Test
     public void sampleTest() {
         assertTrue(true);
     }
+
+    @Test
+    public void runScript_scriptWithErrors_failuresCountedAndDataSaved() {
+        try {
+            Path dataDir = Files.createTempDirectory("quotely-script");
+            Path script = dataDir.resolve("commands.txt");
+            Files.writeString(script, String.join("\n",
+                    "# set up a quote",
+                    "quote n/Office c/Acme",
+                    "add i/Desk p/100 q/2 t/9",
+                    "",
+                    "add i/Chair p/abc q/2",
+                    "finish",
+                    "unquote n/missing",
+                    "exit",
+                    "quote n/After Exit c/Acme"));
+            QuotelyState.getInstance().setOutsideQuote();
+
+            Quotely quotely = new Quotely(Quotely.DataMode.IN_MEMORY, dataDir.toString());
+            assertEquals(2, quotely.runScript(script));
+
+            QuoteList saved = new Storage(dataDir.toString(), "quotely.json")
+                    .loadData(new JsonSerializer()).getQuoteList();
+            assertEquals(1, saved.getQuotes().size());
+            assertEquals(1, saved.getQuoteByName("Office").getItems().size());
+            assertEquals(218.0, saved.getQuoteByName("Office").getQuoteTotal());
+            assertFalse(saved.hasQuote("After Exit"));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void runScript_missingFile_returnMinusOne() {
+        try {
+            Path dataDir = Files.createTempDirectory("quotely-script");
+            Quotely quotely = new Quotely(Quotely.DataMode.IN_MEMORY, dataDir.toString());
+            assertEquals(-1, quotely.runScript(dataDir.resolve("missing.txt")));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    private static int runScript(Quotely.DataMode dataMode, Path dataDir, String... commands) throws IOException {
+        return runScript(new Quotely(dataMode, dataDir.toString()), dataDir, commands);
+    }
+
+    private static int runScript(Quotely quotely, Path dataDir, String... commands) throws IOException {
+        Path script = Files.createTempFile(dataDir, "commands", ".txt");
+        Files.writeString(script, String.join("\n", commands));
+        QuotelyState.getInstance().setOutsideQuote();
+        return quotely.runScript(script);
+    }
+
+    private static String[] addItemCommands(int itemCount) {
+        String[] commands = new String[itemCount + 2];
+        commands[0] = "quote n/Office c/Acme";
+        for (int i = 1; i <= itemCount; i++) {
+            commands[i] = "add i/Item " + i + " p/1 q/1";
+        }
+        commands[itemCount + 1] = "finish";
+        return commands;
+    }
+
+    @Test
+    public void runScript_defaultItemLimit_moreThanThirtyItemsAdded() {
+        try {
+            Path dataDir = Files.createTempDirectory("quotely-limit");
+            assertEquals(0, runScript(Quotely.DataMode.IN_MEMORY, dataDir, addItemCommands(40)));
+
+            QuoteList saved = new Storage(dataDir.toString(), "quotely.json")
+                    .loadData(new JsonSerializer()).getQuoteList();
+            assertEquals(40, saved.getQuoteByName("Office").getItemCount());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void runScript_maxItemsGiven_limitEnforced() {
+        try {
+            Path dataDir = Files.createTempDirectory("quotely-limit");
+            int maxItems = Quotely.parseMaxItems(new String[] {"--script", "commands.txt", "--max-items", "3"});
+            assertEquals(3, maxItems);
+            Quotely quotely = new Quotely(Quotely.DataMode.IN_MEMORY, dataDir.toString(), maxItems);
+            assertEquals(2, runScript(quotely, dataDir, addItemCommands(5)));
+
+            QuoteList saved = new Storage(dataDir.toString(), "quotely.json")
+                    .loadData(new JsonSerializer()).getQuoteList();
+            assertEquals(3, saved.getQuoteByName("Office").getItemCount());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void parseMaxItems_invalidOrMissingNumber_returnMinusOneOrZero() {
+        assertEquals(0, Quotely.parseMaxItems(new String[] {"--lazy"}));
+        assertEquals(-1, Quotely.parseMaxItems(new String[] {"--max-items", "0"}));
+        assertEquals(-1, Quotely.parseMaxItems(new String[] {"--max-items", "many"}));
+        assertEquals(-1, Quotely.parseMaxItems(new String[] {"--max-items"}));
+    }
+
+    @Test
+    public void readOnly_dataSavedInBothFormats_newerDataShown() {
+        try {
+            Path dataDir = Files.createTempDirectory("quotely-read-only");
+            assertEquals(0, runScript(Quotely.DataMode.IN_MEMORY, dataDir, "quote n/Office c/Acme", "finish"));
+            Path jsonFile = dataDir.resolve("quotely.json");
+            Files.setLastModifiedTime(jsonFile, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+            assertEquals(0, runScript(Quotely.DataMode.LAZY, dataDir, "quote n/Lamp c/Acme", "finish"));
+            assertEquals(0, runScript(Quotely.DataMode.READ_ONLY, dataDir, "total n/Lamp", "total n/Office"));
+
+            // as if the default mode saved after lazy mode, without the quote added in lazy mode
+            Path binaryFile = dataDir.resolve("quotely.qbin");
+            Files.setLastModifiedTime(binaryFile, FileTime.fromMillis(System.currentTimeMillis() - 120_000));
+            assertEquals(1, runScript(Quotely.DataMode.READ_ONLY, dataDir, "total n/Lamp", "total n/Office"));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void readOnly_journaledChanges_replayedWithoutWriting() {
+        try {
+            Path dataDir = Files.createTempDirectory("quotely-read-only");
+            Storage storage = new Storage(dataDir.toString(), "quotely.json");
+            storage.saveData(new ApplicationData(), new JsonSerializer());
+            ChangeJournal journal = new ChangeJournal(dataDir.toString(), "quotely.journal");
+            JournalEntry entry = JournalEntry.addQuote("Office", "Acme");
+            entry.setRevision(1);
+            journal.append(entry);
+
+            assertEquals(0, runScript(Quotely.DataMode.READ_ONLY, dataDir, "total n/Office"));
+            assertEquals(1, journal.loadEntries().size());
+            assertTrue(storage.loadData(new JsonSerializer()).getQuoteList().getQuotes().isEmpty());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void run_defaultAndLazyModeAlternate_changesOfBothKept() {
+        try {
+            Path dataDir = Files.createTempDirectory("quotely-modes");
+            assertEquals(0, runScript(Quotely.DataMode.IN_MEMORY, dataDir, "quote n/Office c/Acme", "finish"));
+            Files.setLastModifiedTime(dataDir.resolve("quotely.json"),
+                    FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+            assertEquals(0, runScript(Quotely.DataMode.LAZY, dataDir, "quote n/Lamp c/Acme", "finish"));
+
+            assertEquals(0, runScript(Quotely.DataMode.IN_MEMORY, dataDir, "total n/Lamp",
+                    "quote n/Desk c/Acme", "finish"));
+            Files.setLastModifiedTime(dataDir.resolve("quotely.qbin"),
+                    FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+            assertEquals(0, runScript(Quotely.DataMode.LAZY, dataDir, "total n/Office", "total n/Lamp",
+                    "total n/Desk"));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
 }
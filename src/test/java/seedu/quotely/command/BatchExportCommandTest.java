@@ -0,0 +1,85 @@
+package seedu.quotely.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchExportCommandTest {
+
+    private QuoteList createQuoteList(int quoteCount) {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 0; i < quoteCount; i++) {
+            Quote quote = new Quote((i % 2 == 0 ? "march " : "april ") + i, "customer " + i);
+            quote.addItem("item", 10.0, i + 1, 9.0);
+            quoteList.addQuote(quote);
+        }
+        return quoteList;
+    }
+
+    @Test
+    public void execute_allQuotes_onePdfPerQuote() {
+        try {
+            Path dir = Files.createTempDirectory("export");
+            BatchExportCommand command = new BatchExportCommand(null, dir);
+            command.execute(Ui.getInstance(), createQuoteList(25), new CompanyName("default"),
+                    QuotelyState.getInstance());
+
+            assertEquals(25, command.getExportedCount());
+            assertTrue(command.getFailures().isEmpty());
+            assertTrue(Files.exists(dir.resolve("march 0.pdf")));
+            assertTrue(Files.exists(dir.resolve("april 23.pdf")));
+            assertFalse(command.isMutating());
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_searchTermAndUnwritableFile_matchingQuotesExportedAndFailureReported() {
+        try {
+            Path dir = Files.createTempDirectory("export");
+            // a directory where the PDF of "march 2" should go makes that export fail
+            Files.createDirectory(dir.resolve("march 2.pdf"));
+            BatchExportCommand command = new BatchExportCommand("MARCH", dir);
+            command.execute(Ui.getInstance(), createQuoteList(10), new CompanyName("default"),
+                    QuotelyState.getInstance());
+
+            assertEquals(4, command.getExportedCount());
+            assertEquals(1, command.getFailures().size());
+            assertTrue(command.getFailures().get(0).startsWith("march 2 (march 2.pdf)"));
+            assertFalse(Files.exists(dir.resolve("april 1.pdf")));
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_quotesWithSameFilename_distinctFilesWritten() {
+        try {
+            Path dir = Files.createTempDirectory("export");
+            QuoteList quoteList = new QuoteList();
+            quoteList.addQuote(new Quote("a.b", "customer"));
+            quoteList.addQuote(new Quote("a_b", "customer"));
+            BatchExportCommand command = new BatchExportCommand(null, dir);
+            command.execute(Ui.getInstance(), quoteList, new CompanyName("default"), QuotelyState.getInstance());
+
+            assertEquals(2, command.getExportedCount());
+            assertTrue(Files.exists(dir.resolve("a_b.pdf")));
+            assertTrue(Files.exists(dir.resolve("a_b_2.pdf")));
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
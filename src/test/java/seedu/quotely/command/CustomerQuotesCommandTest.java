@@ -0,0 +1,71 @@
+package seedu.quotely.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CustomerQuotesCommandTest {
+
+    @Test
+    public void execute_customerWithQuotes_printsQuotesAndTotals() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        try {
+            System.setOut(new PrintStream(outContent));
+            QuoteList quoteList = new QuoteList();
+            Quote first = new Quote("quote 1", "Acme");
+            first.addItem("desk", 100, 2, 10);
+            Quote other = new Quote("quote 2", "Other");
+            other.addItem("lamp", 5, 1, 0);
+            Quote second = new Quote("quote 3", "acme");
+            second.addItem("chair", 30, 1, 0);
+            quoteList.addQuote(first);
+            quoteList.addQuote(other);
+            quoteList.addQuote(second);
+
+            CustomerQuotesCommand command = new CustomerQuotesCommand("ACME");
+            command.execute(Ui.getInstance(), quoteList, new CompanyName("default"), QuotelyState.getInstance());
+
+            String output = outContent.toString();
+            assertTrue(output.contains("1. quote 1: $220.00"));
+            assertTrue(output.contains("2. quote 3: $30.00"));
+            assertFalse(output.contains("quote 2"));
+            assertTrue(output.contains("Total of 2 quotes: $250.00 (subtotal $230.00, tax $20.00)"));
+            assertFalse(command.isMutating());
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    public void execute_unknownCustomer_printsNoQuotes() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        try {
+            System.setOut(new PrintStream(outContent));
+            QuoteList quoteList = new QuoteList();
+            quoteList.addQuote(new Quote("quote 1", "Acme"));
+
+            new CustomerQuotesCommand("Nobody").execute(Ui.getInstance(), quoteList, new CompanyName("default"),
+                    QuotelyState.getInstance());
+
+            assertTrue(outContent.toString().contains("There are no quotes for customer Nobody."));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.quotely.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExportCustomerCommandTest {
+
+    @Test
+    public void execute_customerWithQuotes_onePdfWritten() {
+        try {
+            Path dir = Files.createTempDirectory("export");
+            QuoteList quoteList = new QuoteList();
+            quoteList.addQuote(new Quote("quote 1", "Acme"));
+            quoteList.addQuote(new Quote("quote 2", "Other"));
+            quoteList.addQuote(new Quote("quote 3", "acme"));
+            ExportCustomerCommand command = new ExportCustomerCommand("ACME", "acme", dir);
+            command.execute(Ui.getInstance(), quoteList, new CompanyName("default"), QuotelyState.getInstance());
+
+            assertTrue(Files.exists(dir.resolve("acme.pdf")));
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(1, files.filter(file -> file.toString().endsWith(".pdf")).count());
+            }
+            assertFalse(command.isMutating());
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_unknownCustomer_noPdfWritten() {
+        try {
+            Path dir = Files.createTempDirectory("export");
+            QuoteList quoteList = new QuoteList();
+            quoteList.addQuote(new Quote("quote 1", "Acme"));
+            ExportCustomerCommand command = new ExportCustomerCommand("Nobody", "nobody", dir);
+            command.execute(Ui.getInstance(), quoteList, new CompanyName("default"), QuotelyState.getInstance());
+
+            assertFalse(Files.exists(dir.resolve("nobody.pdf")));
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
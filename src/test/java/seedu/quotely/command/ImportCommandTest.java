@@ -0,0 +1,125 @@
+package seedu.quotely.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Item;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImportCommandTest {
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = Files.createTempFile("import", ".csv");
+        Files.writeString(file, String.join("\n", lines));
+        return file;
+    }
+
+    @Test
+    public void execute_itemRows_validRowsAddedAndInvalidRowsRejected() {
+        Ui ui = Ui.getInstance();
+        QuoteList quoteList = new QuoteList();
+        QuotelyState state = QuotelyState.getInstance();
+        try {
+            Quote quote = new Quote("TestQuote", "TestCustomer");
+            quoteList.addQuote(quote);
+            Path file = writeCsv("item,price,quantity,tax",
+                    "Desk,100,2,9",
+                    "\"Cable, 2m\",2.5,10",
+                    "",
+                    "Chair,abc,2",
+                    "Lamp,10,1000",
+                    "# a comment",
+                    "Shelf,40,1,");
+
+            ImportCommand command = new ImportCommand(file, quote);
+            command.execute(ui, quoteList, new CompanyName("default"), state);
+
+            assertEquals(3, command.getImportedCount());
+            assertEquals(3, quote.getItems().size());
+            Item cable = quote.getItems().get(1);
+            assertEquals("Cable, 2m", cable.getItemName());
+            assertEquals(10, cable.getQuantity());
+            assertEquals(283.0, quote.getQuoteTotal());
+            assertEquals(2, command.getRejectedRows().size());
+            assertTrue(command.getRejectedRows().get(0).startsWith("Row 5: "));
+            assertTrue(command.getRejectedRows().get(1).startsWith("Row 6: "));
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_quoteRows_quotesCreated() {
+        Ui ui = Ui.getInstance();
+        QuoteList quoteList = new QuoteList();
+        QuotelyState state = QuotelyState.getInstance();
+        try {
+            Quote existing = new Quote("Existing", "Customer A");
+            quoteList.addQuote(existing);
+            Path file = writeCsv("Existing,Customer A,Desk,100,1",
+                    "New Quote,Customer B,Desk,100,1,9",
+                    "new quote,Customer B,Chair,50,2",
+                    "Bad/Name,Customer C,Desk,100,1",
+                    "Desk,100,1");
+
+            ImportCommand command = new ImportCommand(file, null);
+            command.execute(ui, quoteList, new CompanyName("default"), state);
+
+            assertEquals(3, command.getImportedCount());
+            assertEquals(2, quoteList.getQuotes().size());
+            assertEquals(1, existing.getItems().size());
+            assertEquals(2, quoteList.getQuoteByName("New Quote").getItems().size());
+            assertEquals("Customer B", quoteList.getQuoteByName("New Quote").getCustomerName());
+            // an invalid quote name and an item row without a target quote
+            assertEquals(2, command.getRejectedRows().size());
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_moreRowsThanItemLimit_extraRowsRejected() {
+        Ui ui = Ui.getInstance();
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote = new Quote("TestQuote", "TestCustomer");
+            quote.addItem("Existing", 1, 1, 0);
+            quoteList.addQuote(quote);
+            String[] rows = new String[30];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = "Item " + i + ",1,1";
+            }
+
+            ImportCommand command = new ImportCommand(writeCsv(rows), quote, 30);
+            command.execute(ui, quoteList, new CompanyName("default"), QuotelyState.getInstance());
+
+            assertEquals(30, quote.getItems().size());
+            assertEquals(29, command.getImportedCount());
+            assertEquals(1, command.getRejectedRows().size());
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_missingFile_throwsExceptionAndNothingChanged() {
+        QuoteList quoteList = new QuoteList();
+        Quote quote = new Quote("TestQuote", "TestCustomer");
+        quoteList.addQuote(quote);
+        ImportCommand command = new ImportCommand(Path.of("missing-import-file.csv"), quote);
+        assertThrows(QuotelyException.class, () -> command.execute(Ui.getInstance(), quoteList,
+                new CompanyName("default"), QuotelyState.getInstance()));
+        assertEquals(0, quote.getItems().size());
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.quotely.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShowQuotesCommandTest {
+
+    private static QuoteList createQuoteList(int quoteCount) {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 1; i <= quoteCount; i++) {
+            Quote quote = new Quote("quote " + i, "customer " + i);
+            quote.addItem("item", i, 1, 0);
+            quoteList.addQuote(quote);
+        }
+        return quoteList;
+    }
+
+    private static String execute(ShowQuotesCommand command, QuoteList quoteList) throws QuotelyException {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        try {
+            System.setOut(new PrintStream(outContent));
+            command.execute(Ui.getInstance(), quoteList, new CompanyName("default"), QuotelyState.getInstance());
+        } finally {
+            System.setOut(originalOut);
+        }
+        return outContent.toString();
+    }
+
+    @Test
+    public void execute_compactPage_printsOneRowPerQuoteOfPage() {
+        try {
+            QuoteList quoteList = createQuoteList(25);
+            String output = execute(new ShowQuotesCommand(ShowQuotesCommand.SortOrder.ADDED, 2, 10, true),
+                    quoteList);
+
+            assertTrue(output.contains("Customer"));
+            assertTrue(output.contains("quote 11 "));
+            assertTrue(output.contains("quote 20 "));
+            assertFalse(output.contains("quote 10 "));
+            assertFalse(output.contains("quote 21 "));
+            assertFalse(output.contains("QUOTE"));
+            assertTrue(output.contains("$11.00"));
+            assertTrue(output.contains("Page 2 of 3 (quotes 11-20 of 25)"));
+            assertTrue(output.contains("Total value of all 25 quotes: $325.00"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_pageAfterQuotesAddedAndRemoved_printsQuotesAtTheirCurrentPositions() {
+        try {
+            QuoteList quoteList = createQuoteList(25);
+            execute(new ShowQuotesCommand(ShowQuotesCommand.SortOrder.ADDED, 1, 10, true), quoteList);
+            quoteList.removeQuote(quoteList.getQuoteByName("quote 3"));
+            quoteList.addQuote(new Quote("quote 26", "customer 26"));
+            String output = execute(new ShowQuotesCommand(ShowQuotesCommand.SortOrder.ADDED, 3, 10, true),
+                    quoteList);
+
+            assertTrue(output.contains("quote 22 "));
+            assertTrue(output.contains("quote 26 "));
+            assertFalse(output.contains("quote 21 "));
+            assertTrue(output.contains("Page 3 of 3 (quotes 21-25 of 25)"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_pageSortedByTotal_printsLargestQuotesOfPage() {
+        try {
+            QuoteList quoteList = createQuoteList(25);
+            String output = execute(new ShowQuotesCommand(ShowQuotesCommand.SortOrder.TOTAL, 1, 2, false),
+                    quoteList);
+
+            assertTrue(output.contains("Quote ID: quote 25"));
+            assertTrue(output.contains("Quote ID: quote 24"));
+            assertFalse(output.contains("Quote ID: quote 23"));
+            assertTrue(output.contains("Page 1 of 13 (quotes 1-2 of 25)"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_pageSortedByName_printsQuotesOfPageInNameOrder() {
+        try {
+            QuoteList quoteList = createQuoteList(25);
+            quoteList.removeQuote(quoteList.getQuoteByName("quote 13"));
+            String output = execute(new ShowQuotesCommand(ShowQuotesCommand.SortOrder.NAME, 2, 3, true),
+                    quoteList);
+
+            // quote 1, quote 10 and quote 11 are on page 1
+            assertTrue(output.contains("     4 | quote 12 "));
+            assertTrue(output.contains("     5 | quote 14 "));
+            assertTrue(output.contains("     6 | quote 15 "));
+            assertFalse(output.contains("quote 11 "));
+            assertFalse(output.contains("quote 16 "));
+            assertTrue(output.contains("Page 2 of 8 (quotes 4-6 of 24)"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_pagePastLastPage_printsLastPage() {
+        try {
+            String output = execute(new ShowQuotesCommand(ShowQuotesCommand.SortOrder.ADDED, 4, 10, true),
+                    createQuoteList(25));
+
+            assertTrue(output.contains("There is no page 4, the last page is 3."));
+            assertFalse(output.contains("quote 1"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
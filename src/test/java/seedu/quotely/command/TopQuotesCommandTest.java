@@ -0,0 +1,47 @@
+package seedu.quotely.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopQuotesCommandTest {
+
+    @Test
+    public void execute_moreQuotesThanCount_printsLargestFirst() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        try {
+            System.setOut(new PrintStream(outContent));
+            QuoteList quoteList = new QuoteList();
+            for (int i = 1; i <= 5; i++) {
+                Quote quote = new Quote("quote " + i, "customer " + i);
+                quote.addItem("item", 10.0 * i, 1, 0);
+                quoteList.addQuote(quote);
+            }
+
+            TopQuotesCommand command = new TopQuotesCommand(2);
+            command.execute(Ui.getInstance(), quoteList, new CompanyName("default"), QuotelyState.getInstance());
+
+            String output = outContent.toString();
+            assertTrue(output.contains("Top 2 quotes by total:"));
+            assertTrue(output.contains("1. quote 5 for customer 5: $50.00"));
+            assertTrue(output.contains("2. quote 4 for customer 4: $40.00"));
+            assertFalse(output.contains("quote 3"));
+            assertFalse(command.isMutating());
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+}
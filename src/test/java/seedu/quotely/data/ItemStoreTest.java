@@ -0,0 +1,221 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ItemStoreTest {
+
+    @Test
+    void addRow_validRow_columnsHoldValues() {
+        ItemStore store = new ItemStore();
+        try {
+            store.addRow("desk", 12_50, 2, 900);
+            assertEquals(1, store.size());
+            assertEquals("desk", store.getItemName(0));
+            assertEquals(12_50, store.getPriceCents(0));
+            assertEquals(2, store.getQuantity(0));
+            assertEquals(900, store.getTaxBasisPoints(0));
+            assertEquals(25_00, store.getItemTotalCents(0));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void get_sameRow_returnsSameItem() {
+        ItemStore store = new ItemStore();
+        try {
+            store.addRow("desk", 12_50, 2, 900);
+            Item item = store.get(0);
+            assertSame(item, store.get(0));
+            assertTrue(item.isBound());
+            assertEquals("desk", item.getItemName());
+            assertEquals(12.5, item.getPrice());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void setQuantity_boundItem_writesToColumn() {
+        ItemStore store = new ItemStore();
+        try {
+            store.addRow("desk", 12_50, 2, 900);
+            store.get(0).setQuantity(4);
+            assertEquals(4, store.getQuantity(0));
+            assertEquals(50_00, store.getSubtotalCents());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void add_unboundItem_itemBecomesRow() {
+        ItemStore store = new ItemStore();
+        Item item = new Item("lamp", 3.0, 1, 0.0);
+        try {
+            store.add(item);
+            assertSame(item, store.get(0));
+            item.setItemName("floor lamp");
+            assertEquals("floor lamp", store.getItemName(0));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void add_middleRow_laterItemsMove() {
+        ItemStore store = ItemStore.of(List.of(new Item("a", 1.0, 1, 0.0), new Item("c", 3.0, 3, 0.0)));
+        Item b = new Item("b", 2.0, 2, 0.0);
+        try {
+            Item c = store.get(1);
+            store.add(1, b);
+            assertEquals(3, store.size());
+            assertSame(b, store.get(1));
+            assertSame(c, store.get(2));
+            assertEquals(List.of("a", "b", "c"), store.getItemNames());
+            c.setQuantity(4);
+            assertEquals(4, store.getQuantity(2));
+            assertEquals(1_00 + 4_00 + 12_00, store.getSubtotalCents());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> store.add(5, new Item("d", 1.0, 1, 0.0)));
+    }
+
+    @Test
+    void remove_middleRow_removedItemKeepsValuesAndLaterItemsMove() {
+        ItemStore store = ItemStore.of(List.of(new Item("a", 1.0, 1, 0.0),
+                new Item("b", 2.0, 2, 0.0), new Item("c", 3.0, 3, 0.0)));
+        try {
+            Item c = store.get(2);
+            Item removed = store.remove(1);
+            assertFalse(removed.isBound());
+            assertEquals("b", removed.getItemName());
+            assertEquals(2, removed.getQuantity());
+            assertEquals(2, store.size());
+            assertSame(c, store.get(1));
+            c.setQuantity(5);
+            assertEquals(5, store.getQuantity(1));
+            assertEquals(1_00 + 15_00, store.getSubtotalCents());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void copy_changeOriginal_copyUnchanged() {
+        ItemStore store = new ItemStore();
+        try {
+            store.addRow("desk", 12_50, 2, 900);
+            ItemStore copy = store.copy();
+            store.get(0).setQuantity(7);
+            store.addRow("lamp", 3_00, 1, 0);
+            assertEquals(1, copy.size());
+            assertEquals(2, copy.getQuantity(0));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void getScaledTax_manyRows_matchesItemSum() {
+        ItemStore store = new ItemStore();
+        try {
+            long expected = 0;
+            for (int i = 0; i < 50; i++) {
+                store.addRow("item " + i, 1_99 + i, 1 + i % 3, i % 2 == 0 ? 900 : 0);
+                expected += store.getItemScaledTax(i);
+            }
+            assertEquals(50, store.size());
+            assertEquals(expected, store.getScaledTax());
+            assertEquals(-1, store.indexOfName("missing"));
+            assertEquals(7, store.indexOfName("item 7"));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void indexOfName_manyRowsAfterRemoveAndRename_findsFirstRow() {
+        ItemStore store = new ItemStore();
+        try {
+            for (int i = 0; i < 5_000; i++) {
+                store.addRow("item " + i, 1_00, 1, 0);
+            }
+            assertEquals(4_999, store.indexOfName("item 4999"));
+            store.remove(10);
+            assertEquals(-1, store.indexOfName("item 10"));
+            assertEquals(4_998, store.indexOfName("item 4999"));
+            store.get(0).setItemName("item 20");
+            assertEquals(0, store.indexOfName("item 20"));
+            assertEquals(-1, store.indexOfName("item 0"));
+            store.addRow("item 0", 1_00, 1, 0);
+            assertEquals(4_999, store.indexOfName("item 0"));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void indexOfName_repeatedNamesAfterInsertRemoveAndRename_findsFirstRow() {
+        ItemStore store = new ItemStore();
+        try {
+            for (int i = 0; i < 40; i++) {
+                store.addRow("item " + (i % 20), 1_00, 1, 0);
+            }
+            assertEquals(5, store.indexOfName("item 5"));
+            store.remove(5);
+            assertEquals(24, store.indexOfName("item 5"));
+            store.add(3, new Item("item 5", 1.0, 1, 0.0));
+            assertEquals(3, store.indexOfName("item 5"));
+            assertEquals(6, store.indexOfName("item 6"));
+            store.get(3).setItemName("new item");
+            assertEquals(3, store.indexOfName("new item"));
+            assertEquals(25, store.indexOfName("item 5"));
+            store.get(25).setItemName("item 4");
+            assertEquals(-1, store.indexOfName("item 5"));
+            assertEquals(5, store.indexOfName("item 4"));
+            for (int row = 0; row < store.size(); row++) {
+                String name = store.getItemName(row);
+                assertEquals(store.getItemNames().indexOf(name), store.indexOfName(name));
+            }
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void indexOfName_severalChangesBetweenLookups_findsFirstRow() {
+        ItemStore store = new ItemStore();
+        try {
+            for (int i = 0; i < 60; i++) {
+                store.addRow("item " + (i % 25), 1_00, 1, 0);
+            }
+            assertEquals(2, store.indexOfName("item 2"));
+            store.remove(30);
+            store.add(10, new Item("item 2", 1.0, 1, 0.0));
+            store.get(40).setItemName("item 40");
+            store.get(1).setItemName("item 30");
+            store.addRow("item 41", 1_00, 1, 0);
+            // before every changed row, so answered by the stale index
+            assertEquals(0, store.indexOfName("item 0"));
+            store.remove(0);
+            store.get(5).setItemName("item 1");
+            for (int row = 0; row < store.size(); row++) {
+                String name = store.getItemName(row);
+                assertEquals(store.getItemNames().indexOf(name), store.indexOfName(name));
+            }
+            assertEquals(-1, store.indexOfName("item 99"));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadedQuoteCacheTest {
+    private static final double TEST_TAX_RATE = 10.0;
+
+    private Quote createLazyQuote(String name, LoadedQuoteCache cache, AtomicInteger loadCount) {
+        return new Quote(name, "customer", () -> {
+            loadCount.incrementAndGet();
+            return List.of(new Item("widget", 10.0, 2, TEST_TAX_RATE), new Item("bolt", 1.5, 4, 0));
+        }, cache);
+    }
+
+    @Test
+    void touch_moreQuotesThanCapacity_leastRecentlyUsedUnloaded() {
+        LoadedQuoteCache cache = new LoadedQuoteCache(2);
+        AtomicInteger loadCount = new AtomicInteger();
+        Quote first = createLazyQuote("first", cache, loadCount);
+        Quote second = createLazyQuote("second", cache, loadCount);
+        Quote third = createLazyQuote("third", cache, loadCount);
+
+        first.getItems();
+        second.getItems();
+        first.getItems();
+        third.getItems();
+
+        assertEquals(2, cache.getLoadedCount());
+        assertTrue(first.isLoaded());
+        assertFalse(second.isLoaded());
+        assertTrue(third.isLoaded());
+        assertEquals(3, loadCount.get());
+
+        // an unloaded quote reads its items again when used
+        assertEquals(2, second.getItems().size());
+        assertEquals(4, loadCount.get());
+        assertFalse(first.isLoaded());
+    }
+
+    @Test
+    void unloadItems_unloadedQuote_totalsAndItemCountKept() {
+        LoadedQuoteCache cache = new LoadedQuoteCache(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        Quote first = createLazyQuote("first", cache, loadCount);
+        Quote second = createLazyQuote("second", cache, loadCount);
+
+        first.getItems();
+        second.getItems();
+
+        assertFalse(first.isLoaded());
+        assertEquals(26.0, first.getQuoteTotalPriceWithoutTax());
+        assertEquals(2.0, first.getQuoteTotalTax());
+        assertEquals(28.0, first.getQuoteTotal());
+        assertEquals(2, first.getItemCount());
+        assertFalse(first.isLoaded());
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void addItem_changedQuote_notUnloaded() {
+        LoadedQuoteCache cache = new LoadedQuoteCache(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        Quote changed = createLazyQuote("changed", cache, loadCount);
+        Quote other = createLazyQuote("other", cache, loadCount);
+
+        changed.addItem("nut", 0.5, 10, 0);
+        other.getItems();
+        other.unloadItems();
+
+        assertTrue(changed.isLoaded());
+        assertFalse(changed.unloadItems());
+        assertEquals(3, changed.getItems().size());
+        assertEquals(1, cache.getLoadedCount());
+    }
+
+    @Test
+    void copy_unloadedQuote_copyReadsSameItems() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Quote quote = createLazyQuote("quote", new LoadedQuoteCache(1), loadCount);
+
+        Quote copy = quote.copy();
+        assertFalse(copy.isLoaded());
+        assertEquals(0, loadCount.get());
+        assertEquals("bolt", copy.getItems().get(1).getItemName());
+        assertFalse(quote.isLoaded());
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.quotely.data;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Compares summing item totals with doubles, with fixed-point cents (Money) and with BigDecimal,
+ * and how far the double and cents results drift from the exact BigDecimal result.
+ * Run with {@code ./gradlew benchmark -Pbench=seedu.quotely.data.MoneyBenchmark [-Pargs=ITEMS]}.
+ */
+public class MoneyBenchmark {
+    private static final int DEFAULT_ITEM_COUNT = 1_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int itemCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITEM_COUNT;
+        long[] priceCents = new long[itemCount];
+        int[] quantities = new int[itemCount];
+        int[] taxBasisPoints = new int[itemCount];
+        double[] prices = new double[itemCount];
+        double[] taxRates = new double[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            priceCents[i] = 1 + (i * 7919L) % 100_000;
+            quantities[i] = 1 + i % 13;
+            taxBasisPoints[i] = i % 3 == 0 ? 0 : 825;
+            prices[i] = Money.toDecimal(priceCents[i]);
+            taxRates[i] = Money.toPercent(taxBasisPoints[i]);
+        }
+
+        BigDecimal exact = BigDecimal.ZERO;
+        double doubleTotal = 0;
+        long centsTotal = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            exact = sumBigDecimal(priceCents, quantities, taxBasisPoints);
+            doubleTotal = sumDouble(prices, quantities, taxRates);
+            centsTotal = sumCents(priceCents, quantities, taxBasisPoints);
+        }
+
+        long doubleNanos = 0;
+        long centsNanos = 0;
+        long bigDecimalNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            doubleTotal = sumDouble(prices, quantities, taxRates);
+            doubleNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            centsTotal = sumCents(priceCents, quantities, taxBasisPoints);
+            centsNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            exact = sumBigDecimal(priceCents, quantities, taxBasisPoints);
+            bigDecimalNanos += System.nanoTime() - start;
+        }
+
+        BigDecimal exactDollars = exact.setScale(2, RoundingMode.HALF_UP);
+        System.out.printf("%d items, exact total %s%n", itemCount, exactDollars.toPlainString());
+        System.out.printf("%-12s %12s %16s%n", "path", "sum (ms)", "drift");
+        System.out.printf("%-12s %12.2f %16s%n", "double", doubleNanos / 1e6 / MEASURED_ROUNDS,
+                new BigDecimal(doubleTotal).subtract(exact).toPlainString());
+        System.out.printf("%-12s %12.2f %16s%n", "cents", centsNanos / 1e6 / MEASURED_ROUNDS,
+                new BigDecimal(Money.format(centsTotal)).subtract(exactDollars).toPlainString());
+        System.out.printf("%-12s %12.2f %16s%n", "BigDecimal", bigDecimalNanos / 1e6 / MEASURED_ROUNDS, "0");
+    }
+
+    private static double sumDouble(double[] prices, int[] quantities, double[] taxRates) {
+        double total = 0;
+        for (int i = 0; i < prices.length; i++) {
+            double itemTotal = prices[i] * quantities[i];
+            total += itemTotal + itemTotal * taxRates[i] / 100;
+        }
+        return total;
+    }
+
+    private static long sumCents(long[] priceCents, int[] quantities, int[] taxBasisPoints) {
+        long subtotalCents = 0;
+        long scaledTax = 0;
+        for (int i = 0; i < priceCents.length; i++) {
+            long itemTotalCents = priceCents[i] * quantities[i];
+            subtotalCents += itemTotalCents;
+            scaledTax += Money.scaledTax(itemTotalCents, taxBasisPoints[i]);
+        }
+        return subtotalCents + Money.roundScaledTax(scaledTax);
+    }
+
+    private static BigDecimal sumBigDecimal(long[] priceCents, int[] quantities, int[] taxBasisPoints) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < priceCents.length; i++) {
+            BigDecimal itemTotal = BigDecimal.valueOf(priceCents[i], 2).multiply(BigDecimal.valueOf(quantities[i]));
+            total = total.add(itemTotal).add(itemTotal.multiply(BigDecimal.valueOf(taxBasisPoints[i], 4)));
+        }
+        return total;
+    }
+}
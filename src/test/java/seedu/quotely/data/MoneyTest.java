@@ -0,0 +1,51 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyTest {
+
+    @Test
+    public void toCents_decimalAmounts_exactCents() {
+        assertEquals(1010, Money.toCents(10.1));
+        assertEquals(1, Money.toCents(0.01));
+        assertEquals(29, Money.toCents(0.1 + 0.2 - 0.01));
+        assertEquals(825, Money.toBasisPoints(8.25));
+        assertEquals(10.1, Money.toDecimal(1010));
+        assertEquals(8.25, Money.toPercent(825));
+    }
+
+    @Test
+    public void roundScaledTax_halfCent_roundedUp() {
+        // 1.50 at 9% is 13.5 cents
+        assertEquals(14, Money.roundScaledTax(Money.scaledTax(150, 900)));
+        // 1.49 at 9% is 13.41 cents
+        assertEquals(13, Money.roundScaledTax(Money.scaledTax(149, 900)));
+        assertEquals(-13, Money.roundScaledTax(Money.scaledTax(-149, 900)));
+        assertEquals(0, Money.roundScaledTax(0));
+    }
+
+    @Test
+    public void roundScaledTax_manySmallTaxes_summedBeforeRounding() {
+        // 100 items of 0.05 at 9% are 0.45 cents of tax each: 45 cents in total, not 0
+        long scaledTax = 0;
+        for (int i = 0; i < 100; i++) {
+            scaledTax += Money.scaledTax(5, 900);
+        }
+        assertEquals(45, Money.roundScaledTax(scaledTax));
+    }
+
+    @Test
+    public void scaledTax_overflow_throwException() {
+        assertThrows(ArithmeticException.class, () -> Money.scaledTax(Long.MAX_VALUE / 2, 900));
+    }
+
+    @Test
+    public void format_cents_twoDecimalPlaces() {
+        assertEquals("12.10", Money.format(1210));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("-3.00", Money.format(-300));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OrderedQuoteIndexTest {
+
+    @Test
+    void getFirst_byTotal_largestFirst() {
+        Quote small = new Quote("small", "c");
+        small.addItem("a", 1.0, 1, 0);
+        Quote large = new Quote("large", "c");
+        large.addItem("a", 100.0, 1, 0);
+        Quote middle = new Quote("middle", "c");
+        middle.addItem("a", 10.0, 1, 0);
+        OrderedQuoteIndex<Long> index = OrderedQuoteIndex.byTotal();
+        try {
+            index.addQuote(small);
+            index.addQuote(large);
+            index.addQuote(middle);
+            assertEquals(List.of(large, middle), index.getFirst(2));
+            assertEquals(List.of(large, middle, small), index.getFirst(10));
+            assertEquals(List.of(large, middle, small), index.getAll());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void getRange_pastFirstQuotes_onlyQuotesInRange() {
+        OrderedQuoteIndex<Long> index = OrderedQuoteIndex.byTotal();
+        Quote[] quotes = new Quote[5];
+        for (int i = 0; i < quotes.length; i++) {
+            quotes[i] = new Quote("quote" + i, "c");
+            quotes[i].addItem("a", 10.0 - i, 1, 0);
+            index.addQuote(quotes[i]);
+        }
+        assertEquals(List.of(quotes[2], quotes[3]), index.getRange(2, 4));
+        assertEquals(List.of(quotes[4]), index.getRange(4, 10));
+        assertEquals(List.of(), index.getRange(5, 10));
+    }
+
+    @Test
+    void getFirst_equalKeys_orderAdded() {
+        Quote first = new Quote("first", "c");
+        Quote second = new Quote("second", "c");
+        Quote third = new Quote("third", "c");
+        OrderedQuoteIndex<Long> index = OrderedQuoteIndex.byTotal();
+        try {
+            index.addQuote(first);
+            index.addQuote(second);
+            index.addQuote(third);
+            assertEquals(List.of(first, second, third), index.getAll());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void updateQuote_keyChanged_quoteMoved() {
+        Quote first = new Quote("first", "c");
+        first.addItem("a", 5.0, 1, 0);
+        Quote second = new Quote("second", "c");
+        second.addItem("a", 10.0, 1, 0);
+        OrderedQuoteIndex<Long> index = OrderedQuoteIndex.byTotal();
+        try {
+            index.addQuote(first);
+            index.addQuote(second);
+            first.addItem("b", 20.0, 1, 0);
+            index.updateQuote(first);
+            assertEquals(List.of(first, second), index.getAll());
+
+            index.removeQuote(first);
+            assertEquals(1, index.getQuoteCount());
+            assertEquals(List.of(second), index.getFirst(5));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void getFirst_byName_ignoresCase() {
+        Quote beta = new Quote("beta", "Acme");
+        Quote alpha = new Quote("Alpha", "zed");
+        Quote alphaAgain = new Quote("alpha", "acme");
+        OrderedQuoteIndex<String> byQuoteName = OrderedQuoteIndex.byQuoteName();
+        OrderedQuoteIndex<String> byCustomerName = OrderedQuoteIndex.byCustomerName();
+        for (Quote quote : List.of(beta, alpha, alphaAgain)) {
+            byQuoteName.addQuote(quote);
+            byCustomerName.addQuote(quote);
+        }
+        assertEquals(List.of(alpha, alphaAgain, beta), byQuoteName.getAll());
+        assertEquals(List.of(beta, alphaAgain, alpha), byCustomerName.getAll());
+    }
+}
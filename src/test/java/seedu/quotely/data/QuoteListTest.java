@@ -1,5 +1,6 @@
 package seedu.quotely.data;
 
+import com.google.gson.Gson;
 import org.junit.jupiter.api.Test;
 import seedu.quotely.exception.QuotelyException;
 
@@ -7,8 +8,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class QuoteListTest {
     @Test
@@ -116,4 +120,214 @@ public class QuoteListTest {
             assert false : "Exception should not be thrown";
         }
     }
+
+    @Test
+    void getQuoteByName_differentCase_returnSameQuote() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("Office Fitout", "customer1");
+            quoteList.addQuote(quote1);
+            assertSame(quote1, quoteList.getQuoteByName("office fitout"));
+            assertSame(quote1, quoteList.getQuoteByName("OFFICE FITOUT"));
+            assertTrue(quoteList.hasQuote("oFFICE fITOUT"));
+
+            quoteList.removeQuote(new Quote("OFFICE fitout", "customer1"));
+            assertFalse(quoteList.hasQuote("Office Fitout"));
+            assertEquals(0, quoteList.getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void removeQuote_thenAddQuote_orderAndIndexesKeptInStep() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("quote1", "Acme");
+            Quote quote2 = new Quote("quote2", "Acme");
+            Quote quote3 = new Quote("quote3", "Globex");
+            quoteList.addQuote(quote1);
+            quoteList.addQuote(quote2);
+            quoteList.addQuote(quote3);
+            assertEquals(List.of(quote2), quoteList.searchQuote("quote2"));
+            assertEquals(List.of(quote1, quote2), quoteList.getQuotesByCustomer("acme"));
+
+            // the list keeps its size, so the indexes must follow the change itself
+            quoteList.removeQuote(quote2);
+            Quote quote4 = new Quote("quote4", "Acme");
+            quoteList.addQuote(quote4);
+            assertEquals(List.of(quote1, quote3, quote4), quoteList.getQuotes());
+            assertSame(quote3, quoteList.getQuotes().get(1));
+            assertFalse(quoteList.hasQuote("quote2"));
+            assertEquals(List.of(quote1, quote4), quoteList.getQuotesByCustomer("acme"));
+            assertEquals(List.of(quote4), quoteList.searchQuote("quote4"));
+            assertTrue(quoteList.searchQuote("quote2").isEmpty());
+            assertThrows(UnsupportedOperationException.class, () -> quoteList.getQuotes().add(quote2));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void snapshot_quotesChangeAfterwards_snapshotUnchangedAndUnchangedQuotesShared() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("quote1", "customer1");
+            quote1.addItem("desk", 100.0, 1, 0);
+            Quote quote2 = new Quote("quote2", "customer2");
+            quote2.addItem("lamp", 20.0, 1, 0);
+            quoteList.addQuote(quote1);
+            quoteList.addQuote(quote2);
+
+            QuoteList first = quoteList.snapshot();
+            quote1.getItems().get(0).setQuantity(3);
+            quoteList.removeQuote(quote2);
+            QuoteList second = quoteList.snapshot();
+
+            assertEquals(2, first.getQuotes().size());
+            assertEquals(100.0, first.getQuoteByName("quote1").getQuoteTotal(), 0.001);
+            assertEquals(300.0, second.getQuoteByName("quote1").getQuoteTotal(), 0.001);
+            assertFalse(second.hasQuote("quote2"));
+            // quote2 did not change, so the next snapshot would reuse its copy
+            assertSame(first.getQuoteByName("quote2"), quote2.snapshot());
+            assertThrows(UnsupportedOperationException.class, () -> first.addQuote(new Quote("quote3", "c")));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void validate_duplicateNames_keepFirstQuote() {
+        Quote quote1 = new Quote("quote1", "customer1");
+        QuoteList quoteList = new QuoteList(new ArrayList<>(List.of(quote1, new Quote("QUOTE1", "customer2"))));
+        try {
+            quoteList.validate();
+            assertEquals(1, quoteList.getQuotes().size());
+            assertSame(quote1, quoteList.getQuoteByName("Quote1"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void getQuoteByName_readByGsonBeforeValidate_returnQuote() {
+        String json = "{\"quotes\":[{\"quoteName\":\"quote1\",\"customerName\":\"customer1\",\"items\":[]}]}";
+        QuoteList quoteList = new Gson().fromJson(json, QuoteList.class);
+        try {
+            assertTrue(quoteList.hasQuote("QUOTE1"));
+            assertEquals("customer1", quoteList.getQuoteByName("quote1").getCustomerName());
+            assertThrows(UnsupportedOperationException.class, () -> quoteList.addQuote(new Quote("quote2", "c")));
+
+            quoteList.validate();
+            quoteList.addQuote(new Quote("quote2", "c"));
+            assertTrue(quoteList.hasQuote("quote2"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void getPortfolioTotal_quotesAndItemsChange_totalKeptUpToDate() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("quote1", "customer1");
+            quote1.addItem("item1", 10.0, 2, 10.0);
+            quoteList.addQuote(quote1);
+            assertEquals(22.0, quoteList.getPortfolioTotal(), 0.001);
+
+            Quote quote2 = new Quote("quote2", "customer2");
+            quoteList.addQuote(quote2);
+            quote2.addItem("item2", 5.0, 1, 0);
+            quote1.getItems().get(0).setQuantity(1);
+            assertEquals(16.0, quoteList.getPortfolioTotal(), 0.001);
+            assertEquals(15.0, quoteList.getPortfolioTotalWithoutTax(), 0.001);
+            assertEquals(1.0, quoteList.getPortfolioTotalTax(), 0.001);
+
+            quoteList.removeQuote(quote1);
+            assertEquals(5.0, quoteList.getPortfolioTotal(), 0.001);
+
+            quoteList.addQuote(quote1);
+            assertEquals(16.0, quoteList.getPortfolioTotal(), 0.001);
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void findQuotes_quotesAndItemsChange_indexKeptUpToDate() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("March office", "Acme Pte Ltd");
+            quote1.addItem("Standing desk", 300.0, 2, 9.0);
+            quoteList.addQuote(quote1);
+            assertEquals(List.of(quote1), quoteList.findQuotes("desk"));
+
+            Quote quote2 = new Quote("April office", "Globex");
+            quoteList.addQuote(quote2);
+            quote2.addItem("Desk lamp", 20.0, 1, 0);
+            quote1.removeItem("Standing desk");
+            assertEquals(List.of(quote2), quoteList.findQuotes("desk"));
+
+            quote2.getItems().get(0).setItemName("Floor lamp");
+            assertTrue(quoteList.findQuotes("desk").isEmpty());
+            assertEquals(List.of(quote1, quote2), quoteList.findQuotes("office"));
+
+            quoteList.removeQuote(quote1);
+            assertEquals(List.of(quote2), quoteList.findQuotes("office"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void getQuotesByCustomer_quotesAddedAndRemoved_indexKeptUpToDate() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("quote 1", "Acme");
+            Quote quote2 = new Quote("quote 2", "Globex");
+            quoteList.addQuote(quote1);
+            quoteList.addQuote(quote2);
+            assertEquals(List.of(quote1), quoteList.getQuotesByCustomer("acme"));
+
+            Quote quote3 = new Quote("quote 3", "ACME");
+            quoteList.addQuote(quote3);
+            assertEquals(List.of(quote1, quote3), quoteList.getQuotesByCustomer("Acme"));
+
+            quoteList.removeQuote(quote1);
+            assertEquals(List.of(quote3), quoteList.getQuotesByCustomer("Acme"));
+            quoteList.removeQuote(quote3);
+            assertTrue(quoteList.getQuotesByCustomer("Acme").isEmpty());
+            assertEquals(List.of(quote2), quoteList.getQuotesByCustomer("Globex"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void getTopQuotesByTotal_itemsChange_orderKeptUpToDate() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("quote 1", "Acme");
+            quote1.addItem("desk", 100.0, 1, 0);
+            Quote quote2 = new Quote("quote 2", "Globex");
+            quote2.addItem("lamp", 20.0, 1, 0);
+            quoteList.addQuote(quote1);
+            quoteList.addQuote(quote2);
+            assertEquals(List.of(quote1), quoteList.getTopQuotesByTotal(1));
+
+            quote2.addItem("sofa", 500.0, 1, 0);
+            assertEquals(List.of(quote2, quote1), quoteList.getTopQuotesByTotal(5));
+
+            quote2.getItems().get(1).setQuantity(0);
+            Quote quote3 = new Quote("quote 3", "Initech");
+            quote3.addItem("chair", 50.0, 1, 0);
+            quoteList.addQuote(quote3);
+            assertEquals(List.of(quote1, quote3, quote2), quoteList.getQuotesByTotal());
+
+            quoteList.removeQuote(quote1);
+            assertEquals(List.of(quote3), quoteList.getTopQuotesByTotal(1));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
 }
@@ -91,6 +91,17 @@ public class QuoteTest {
         }
     }
 
+    @Test
+    void getItems_changeList_throwException() {
+        Quote quote = new Quote("test", "customer");
+        quote.addItem("item1", 1.0, 2, NO_TAX);
+        List<Item> items = quote.getItems();
+        assertThrows(UnsupportedOperationException.class, () -> items.add(new Item("item2", 1.0, 1, NO_TAX)));
+        assertThrows(UnsupportedOperationException.class, () -> items.remove(0));
+        assertEquals(1, quote.getItems().size());
+        assertEquals(2_00, quote.getQuoteTotalCents());
+    }
+
     @Test
     void getQuoteTotal_validInput_returnQuoteTotal() {
         Quote quote = new Quote("test6", "customer6");
@@ -104,6 +115,30 @@ public class QuoteTest {
         }
     }
 
+    @Test
+    void getQuoteTotal_afterItemChanges_matchesRecomputedTotal() {
+        Quote quote = new Quote("test6", "customer6");
+        try {
+            quote.addItem("item1", 1.0, 48, NO_TAX);
+            quote.addItem("item2", 9.86, 1, TEST_TAX_RATE_1);
+            quote.addItem("item3", 1328.1, 6, TEST_TAX_RATE_2);
+            quote.removeItem("item1");
+            Item item = quote.getItems().get(0);
+            item.setQuantity(3);
+            item.setTax(TEST_TAX_RATE_2);
+            quote.getItems().get(1).setPrice(100.0);
+
+            assertEquals(661.06, quote.getQuoteTotal(), 0.001);
+            assertEquals(661.06, quote.copy().getQuoteTotal(), 0.001);
+            quote.removeItem("item2");
+            quote.removeItem("item3");
+            assertEquals(0.0, quote.getQuoteTotalPriceWithoutTax());
+            assertEquals(0.0, quote.getQuoteTotalTax());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
     /**
      * Tests private method getItemIndex implicitly
      */
@@ -159,6 +194,26 @@ public class QuoteTest {
         }
     }
 
+    @Test
+    void removeItem_thousandsOfItems_totalsAndLookupsStayCorrect() {
+        Quote quote = new Quote("test11", "customer11");
+        try {
+            for (int i = 0; i < 5_000; i++) {
+                quote.addItem("part " + i, 1.0, 2, NO_TAX);
+            }
+            assertTrue(quote.hasItem("part 4999"));
+            for (int i = 0; i < 5_000; i += 2) {
+                quote.removeItem("part " + i);
+            }
+            assertEquals(2_500, quote.getItems().size());
+            assertFalse(quote.hasItem("part 0"));
+            assertTrue(quote.hasItem("part 4999"));
+            assertEquals(5_000.0, quote.getQuoteTotal());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
     @Test
     void toString_validInput_returnQuoteNameAsString() {
         Quote quote = new Quote("test10", "customer10");
@@ -0,0 +1,77 @@
+package seedu.quotely.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.quotely.exception.QuotelyException;
+
+/**
+ * Compares substring search of quote names through the trigram index (QuoteList.searchQuote())
+ * with the linear scan it replaced, which lower-cased every quote name on every search.
+ * Run with {@code ./gradlew benchmark -Pbench=seedu.quotely.data.SearchBenchmark [-Pargs=QUOTES]}.
+ */
+public class SearchBenchmark {
+    private static final int DEFAULT_QUOTE_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+    private static final String[] CUSTOMERS = { "Acme", "Globex", "Initech", "Umbrella", "Stark", "Wayne" };
+    private static final String[] QUERIES = { "march", "stark-17", "quote 4242", "wayne-9", "zzz", "ob" };
+
+    public static void main(String[] args) throws QuotelyException {
+        int quoteCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_QUOTE_COUNT;
+        QuoteList quoteList = new QuoteList();
+        String[] months = { "January", "February", "March", "April", "May", "June" };
+        for (int i = 0; i < quoteCount; i++) {
+            String customer = CUSTOMERS[i % CUSTOMERS.length];
+            quoteList.addQuote(new Quote(customer + "-" + i % 97 + " " + months[i % months.length] + " quote " + i,
+                    customer + " " + i % 50));
+        }
+
+        long start = System.nanoTime();
+        quoteList.searchQuote("build");
+        long buildNanos = System.nanoTime() - start;
+
+        int matches = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            for (String query : QUERIES) {
+                matches += scan(quoteList, query).size() + quoteList.searchQuote(query).size();
+            }
+        }
+
+        System.out.printf("%d quotes, index built in %.1f ms%n", quoteCount, buildNanos / 1e6);
+        System.out.printf("%-14s %10s %14s %14s%n", "query", "matches", "scan (us)", "trigram (us)");
+        for (String query : QUERIES) {
+            long scanNanos = 0;
+            long indexNanos = 0;
+            int queryMatches = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                start = System.nanoTime();
+                queryMatches = scan(quoteList, query).size();
+                scanNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                int indexMatches = quoteList.searchQuote(query).size();
+                indexNanos += System.nanoTime() - start;
+                assert indexMatches == queryMatches : "Index and scan must find the same quotes";
+            }
+            matches += queryMatches;
+            System.out.printf("%-14s %10d %14.1f %14.1f%n", "\"" + query + "\"", queryMatches,
+                    scanNanos / 1e3 / MEASURED_ROUNDS, indexNanos / 1e3 / MEASURED_ROUNDS);
+        }
+        // keeps the JIT from dropping the searches
+        System.out.println(matches > 0 ? "" : "no matches");
+    }
+
+    /**
+     * The linear search of QuoteList.searchQuote() before the trigram index.
+     */
+    private static List<Quote> scan(QuoteList quoteList, String searchTerm) {
+        List<Quote> result = new ArrayList<>();
+        for (Quote q : quoteList.getQuotes()) {
+            if (q.getQuoteName().toLowerCase().contains(searchTerm.toLowerCase())) {
+                result.add(q);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchIndexTest {
+    private final Quote office = createQuote("March office", "Acme Pte Ltd", "Standing desk", "Office chair");
+    private final Quote lab = createQuote("Lab fit-out", "Globex", "Lab chair", "Desk lamp");
+    private final Quote acme = createQuote("Acme store", "Initech", "Shelf");
+
+    private Quote createQuote(String quoteName, String customerName, String... itemNames) {
+        Quote quote = new Quote(quoteName, customerName);
+        for (String itemName : itemNames) {
+            quote.addItem(itemName, 10.0, 1, 0);
+        }
+        return quote;
+    }
+
+    private SearchIndex createIndex() {
+        SearchIndex index = new SearchIndex();
+        index.addQuote(office);
+        index.addQuote(lab);
+        index.addQuote(acme);
+        return index;
+    }
+
+    @Test
+    void tokenize_punctuationAndCase_lowerCaseWords() {
+        assertEquals(List.of("lab", "fit", "out", "2"), SearchIndex.tokenize("Lab fit-out (2)"));
+        assertTrue(SearchIndex.tokenize("&.,").isEmpty());
+    }
+
+    @Test
+    void search_wordsInAnyField_allWordsMustMatch() {
+        SearchIndex index = createIndex();
+        assertEquals(List.of(office, acme), index.search("ACME"));
+        assertEquals(List.of(office, lab), index.search("chair"));
+        assertEquals(List.of(lab), index.search("chair lamp"));
+        assertTrue(index.search("chair shelf").isEmpty());
+    }
+
+    @Test
+    void search_orAndFieldPrefixes_matchingQuotesInOrder() {
+        SearchIndex index = createIndex();
+        assertEquals(List.of(office), index.search("c:acme"));
+        assertEquals(List.of(acme), index.search("n:acme"));
+        assertEquals(List.of(office, acme), index.search("shelf OR i:standing"));
+        assertEquals(List.of(lab, acme), index.search("c:globex i:lamp or c:initech"));
+        assertEquals(List.of(lab), index.search("n:fit-out"));
+    }
+
+    @Test
+    void removeItem_sharedWord_quoteFoundUntilLastItemRemoved() {
+        SearchIndex index = createIndex();
+        index.addItem(lab, "Lab stool");
+        index.removeItem(lab, "Lab chair");
+        assertEquals(List.of(lab), index.search("i:lab"));
+        index.removeItem(lab, "Lab stool");
+        assertTrue(index.search("i:lab").isEmpty());
+
+        index.removeQuote(office);
+        assertEquals(List.of(acme), index.search("acme"));
+        assertEquals(2, index.getQuoteCount());
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.quotely.data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compares reading the 10 largest quotes from the total index (QuoteList.getTopQuotesByTotal()) with sorting
+ * every quote by total, while items keep being added to random quotes between queries.
+ * Run with {@code ./gradlew benchmark -Pbench=seedu.quotely.data.TopQuotesBenchmark [-Pargs=QUOTES]}.
+ */
+public class TopQuotesBenchmark {
+    private static final int DEFAULT_QUOTE_COUNT = 100_000;
+    private static final int TOP_COUNT = 10;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) {
+        int quoteCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_QUOTE_COUNT;
+        QuoteList quoteList = new QuoteList();
+        for (int i = 0; i < quoteCount; i++) {
+            Quote quote = new Quote("quote " + i, "customer " + i % 500);
+            quote.addItem("item", (i * 7919L) % 10_000 / 10.0, 1 + i % 5, i % 2 == 0 ? 9.0 : 0);
+            quoteList.addQuote(quote);
+        }
+
+        long start = System.nanoTime();
+        quoteList.getTopQuotesByTotal(TOP_COUNT);
+        long buildNanos = System.nanoTime() - start;
+
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum += sortAll(quoteList).hashCode() + quoteList.getTopQuotesByTotal(TOP_COUNT).hashCode();
+        }
+
+        long sortNanos = 0;
+        long indexNanos = 0;
+        long changeNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            Quote changed = quoteList.getQuotes().get((int) ((i * 104_729L) % quoteCount));
+            start = System.nanoTime();
+            changed.addItem("extra " + i, 1.0 + i, 1, 0);
+            changeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Quote> sorted = sortAll(quoteList);
+            sortNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Quote> top = quoteList.getTopQuotesByTotal(TOP_COUNT);
+            indexNanos += System.nanoTime() - start;
+            assert top.equals(sorted) : "Index and sort must find the same quotes";
+            checksum += top.hashCode();
+        }
+
+        System.out.printf("%d quotes, index built in %.1f ms%n", quoteCount, buildNanos / 1e6);
+        System.out.printf("%-26s %12.1f%n", "full sort, top 10 (us)", sortNanos / 1e3 / MEASURED_ROUNDS);
+        System.out.printf("%-26s %12.1f%n", "total index, top 10 (us)", indexNanos / 1e3 / MEASURED_ROUNDS);
+        System.out.printf("%-26s %12.1f%n", "add item + reindex (us)", changeNanos / 1e3 / MEASURED_ROUNDS);
+        // keeps the JIT from dropping the queries
+        System.out.println(checksum != 0 ? "" : "no quotes");
+    }
+
+    /**
+     * Sorts every quote by total to take the largest ones, as a sorted listing without the index would.
+     */
+    private static List<Quote> sortAll(QuoteList quoteList) {
+        List<Quote> sorted = new ArrayList<>(quoteList.getQuotes());
+        sorted.sort(Comparator.comparingLong(Quote::getQuoteTotalCents).reversed());
+        return sorted.subList(0, Math.min(TOP_COUNT, sorted.size()));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrigramIndexTest {
+    private final Quote nus = new Quote("NUS06", "National University");
+    private final Quote bonus = new Quote("Bonus order", "Acme Pte Ltd");
+    private final Quote office = new Quote("Office", "Sunrise Trading");
+
+    private TrigramIndex createIndex() {
+        TrigramIndex index = new TrigramIndex();
+        index.addQuote(nus);
+        index.addQuote(bonus);
+        index.addQuote(office);
+        return index;
+    }
+
+    @Test
+    void trigrams_repeatedGrams_distinctGramsOnly() {
+        assertEquals(3, TrigramIndex.trigrams("aaaa a").size());
+        assertTrue(TrigramIndex.trigrams("ab").isEmpty());
+    }
+
+    @Test
+    void search_substringOfName_matchingQuotesInOrder() {
+        TrigramIndex index = createIndex();
+        assertEquals(List.of(nus, bonus), index.search(TrigramIndex.Field.QUOTE_NAME, "NUS"));
+        assertEquals(List.of(bonus), index.search(TrigramIndex.Field.QUOTE_NAME, "us ord"));
+        assertEquals(List.of(office), index.search(TrigramIndex.Field.CUSTOMER_NAME, "RISE TR"));
+        assertTrue(index.search(TrigramIndex.Field.QUOTE_NAME, "sunrise").isEmpty());
+        // every trigram occurs in the name, but not in this order
+        assertTrue(index.search(TrigramIndex.Field.QUOTE_NAME, "ordonus").isEmpty());
+    }
+
+    @Test
+    void search_shortTerm_namesScanned() {
+        TrigramIndex index = createIndex();
+        assertEquals(List.of(nus, bonus), index.search(TrigramIndex.Field.QUOTE_NAME, "u"));
+        assertEquals(List.of(office), index.search(TrigramIndex.Field.CUSTOMER_NAME, "Tr"));
+    }
+
+    @Test
+    void removeQuote_indexedQuote_noLongerFound() {
+        TrigramIndex index = createIndex();
+        index.removeQuote(nus);
+        assertEquals(List.of(bonus), index.search(TrigramIndex.Field.QUOTE_NAME, "nus"));
+        assertEquals(List.of(bonus), index.search(TrigramIndex.Field.QUOTE_NAME, "n"));
+        assertEquals(2, index.getQuoteCount());
+    }
+
+    @Test
+    void removeQuote_mostQuotesRemoved_remainingQuotesStillFound() {
+        TrigramIndex index = new TrigramIndex();
+        List<Quote> quotes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Quote quote = new Quote("quote " + i, "customer " + i);
+            quotes.add(quote);
+            index.addQuote(quote);
+        }
+        for (int i = 0; i < 95; i++) {
+            index.removeQuote(quotes.get(i));
+        }
+        index.addQuote(nus);
+
+        assertEquals(quotes.subList(95, 100), index.search(TrigramIndex.Field.QUOTE_NAME, "quote 9"));
+        assertEquals(List.of(quotes.get(97)), index.search(TrigramIndex.Field.CUSTOMER_NAME, "mer 97"));
+        assertEquals(List.of(nus), index.search(TrigramIndex.Field.QUOTE_NAME, "nus"));
+        assertEquals(6, index.getQuoteCount());
+    }
+}
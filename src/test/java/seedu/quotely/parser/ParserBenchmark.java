@@ -0,0 +1,79 @@
+package seedu.quotely.parser;
+
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Measures how many commands per second Parser.parse() handles for a script of typical commands,
+ * and what compiling the add item pattern on every call (as the parser used to) would add to that.
+ * Logging is switched off so that only parsing is measured.
+ * Run with {@code ./gradlew benchmark -Pbench=seedu.quotely.parser.ParserBenchmark [-Pargs=ROUNDS]}.
+ */
+public class ParserBenchmark {
+    private static final int DEFAULT_ROUNDS = 200_000;
+    private static final int WARMUP_ROUNDS = 50_000;
+    private static final String[] SCRIPT = {
+        "quote n/Office Fitout c/Acme Pte Ltd",
+        "add i/Standing Desk n/Quote 1 p/450.00 q/12 t/9",
+        "add i/Chair n/Quote 1 p/120.50 q/24",
+        "delete i/Chair n/Quote 1",
+        "total n/Quote 1",
+        "export n/Quote 1 f/office.pdf",
+        "nav n/Quote 1",
+        "search n/Quote",
+        "register c/First Company Inc",
+        "show",
+    };
+
+    public static void main(String[] args) throws QuotelyException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        LoggerConfig.getLogger("seedu.quotely").setLevel(Level.OFF);
+
+        QuoteList quoteList = new QuoteList();
+        Quote quote = new Quote("Quote 1", "Customer 1");
+        quote.addItem("Chair", 120.5, 24, 0);
+        quoteList.addQuote(quote);
+        QuotelyState state = QuotelyState.getInstance();
+        state.setOutsideQuote();
+
+        runScript(WARMUP_ROUNDS, state, quoteList);
+        long start = System.nanoTime();
+        runScript(rounds, state, quoteList);
+        long parseNanos = System.nanoTime() - start;
+
+        int commands = rounds * SCRIPT.length;
+        System.out.printf("%d commands%n", commands);
+        System.out.printf("%-22s %14.0f commands/s %10.0f ns/command%n", "parse",
+                commands / (parseNanos / 1e9), (double) parseNanos / commands);
+
+        String addItemPattern = "^i/(.+?)(?:\\s+n/(.+?))?\\s+p/(.+?)\\s+q/(.+?)(?:\\s+t/(.+))?$";
+        int compiled = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            compiled += Pattern.compile(addItemPattern).pattern().length();
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            compiled += Pattern.compile(addItemPattern).pattern().length();
+        }
+        long compileNanos = System.nanoTime() - start;
+        assert compiled > 0;
+        System.out.printf("%-22s %14s %10.0f ns/command%n", "compile add pattern", "-",
+                (double) compileNanos / rounds);
+    }
+
+    private static void runScript(int rounds, QuotelyState state, QuoteList quoteList) throws QuotelyException {
+        for (int i = 0; i < rounds; i++) {
+            for (String line : SCRIPT) {
+                if (Parser.parse(line, state, quoteList) == null) {
+                    throw new AssertionError("No command parsed for: " + line);
+                }
+            }
+        }
+    }
+}
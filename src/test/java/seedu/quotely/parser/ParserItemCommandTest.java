@@ -10,6 +10,9 @@ import seedu.quotely.data.QuoteList;
 import seedu.quotely.exception.QuotelyException;
 import seedu.quotely.ui.Ui;
 
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -104,11 +107,11 @@ public class ParserItemCommandTest {
 
         try {
             for (int i = 0; i < 30; i++) {
-                Command command = Parser.parse("add i/Item p/1.23 q/1 t/10.00", state, quoteList);
+                Command command = Parser.parse("add i/Item p/1.23 q/1 t/10.00", state, quoteList, 30);
                 command.execute(ui, quoteList, companyName, state);
             }
             assertThrows(QuotelyException.class, () -> {
-                Command command = Parser.parse("add i/Item p/1.23 q/1 t/10.00", state, quoteList);
+                Command command = Parser.parse("add i/Item p/1.23 q/1 t/10.00", state, quoteList, 30);
                 command.execute(ui, quoteList, companyName, state);
             });
         } catch (QuotelyException e) {
@@ -118,6 +121,23 @@ public class ParserItemCommandTest {
 
     }
 
+    @Test
+    public void parseAddItemCommand_fullQuoteWithUnloadedItems_throwExceptionWithoutLoadingItems() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        int[] loads = new int[1];
+        Quote q = new Quote("quote 1", "customer 1", () -> {
+            loads[0]++;
+            return new ArrayList<>();
+        }, null, 30, 0, 0);
+        state.setInsideQuote(q);
+        quoteList.addQuote(q);
+
+        assertThrows(QuotelyException.class,
+                () -> Parser.parse("add i/Item p/1.23 q/1 t/10.00", state, quoteList, 30));
+        assertEquals(0, loads[0]);
+    }
+
     @Test
     public void parseDeleteItemCommand_validInputInsideQuote_returnDeleteItemCommand() {
         QuotelyState state = QuotelyState.getInstance();
@@ -224,4 +244,30 @@ public class ParserItemCommandTest {
             Parser.parse("delete", state, quoteList);
         });
     }
+
+    @Test
+    public void parseImportCommand_validInput_returnImportCommand() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        Quote q = new Quote("quote 1", "customer 1");
+        quoteList.addQuote(q);
+        state.setOutsideQuote();
+        try {
+            Command command = Parser.parse("import f/items.csv n/quote 1", state, quoteList);
+            assertTrue(command instanceof seedu.quotely.command.ImportCommand);
+            Command command2 = Parser.parse("import f/quotes.csv", state, quoteList);
+            assertTrue(command2 instanceof seedu.quotely.command.ImportCommand);
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void parseImportCommand_invalidInput_throwException() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        assertThrows(QuotelyException.class, () -> Parser.parse("import", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("import n/quote 1", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("import f/items.csv n/missing", state, quoteList));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.quotely.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -342,4 +343,37 @@ public class ParserQuoteCommandTest {
             Parser.parse("export n/invalid quote", state, quoteList);
         });
     }
+
+    @Test
+    public void parserExportCommand_allOrSearchTerm_returnBatchExportCommand() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        state.setOutsideQuote();
+        quoteList.addQuote(new Quote("quote 1", "customer 1"));
+        try {
+            Command command = Parser.parse("export all", state, quoteList);
+            assertTrue(command instanceof seedu.quotely.command.BatchExportCommand);
+            Command command2 = Parser.parse("export s/quote", state, quoteList);
+            assertTrue(command2 instanceof seedu.quotely.command.BatchExportCommand);
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void parserExportCommand_customerName_returnExportCustomerCommand() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        state.setOutsideQuote();
+        try {
+            Command command = Parser.parse("export c/Acme Pte Ltd f/acme.pdf", state, quoteList);
+            assertTrue(command instanceof seedu.quotely.command.ExportCustomerCommand);
+            assertEquals("Acme Pte Ltd", ((seedu.quotely.command.ExportCustomerCommand) command).getCustomerName());
+            assertEquals("acme", ((seedu.quotely.command.ExportCustomerCommand) command).getFilename());
+            Command command2 = Parser.parse("export c/Acme", state, quoteList);
+            assertEquals("Acme", ((seedu.quotely.command.ExportCustomerCommand) command2).getFilename());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
 }
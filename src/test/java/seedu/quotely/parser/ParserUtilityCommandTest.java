@@ -1,12 +1,16 @@
 package seedu.quotely.parser;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.quotely.command.Command;
+import seedu.quotely.command.CustomerQuotesCommand;
 import seedu.quotely.command.SearchQuoteCommand;
+import seedu.quotely.command.ShowQuotesCommand;
+import seedu.quotely.command.TopQuotesCommand;
 import seedu.quotely.data.Quote;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.QuoteList;
@@ -122,6 +126,11 @@ public class ParserUtilityCommandTest {
         try {
             Command command = Parser.parse("search n/quote1", state, quoteList);
             assertTrue(command instanceof SearchQuoteCommand);
+            Command queryCommand = Parser.parse("search q/c:acme desk OR chair", state, quoteList);
+            assertEquals(SearchQuoteCommand.SearchType.QUERY, ((SearchQuoteCommand) queryCommand).getSearchType());
+            Command customerCommand = Parser.parse("search c/acme", state, quoteList);
+            assertEquals(SearchQuoteCommand.SearchType.CUSTOMER_NAME,
+                    ((SearchQuoteCommand) customerCommand).getSearchType());
         } catch (Exception e) {
             assert false : "Exception should not be thrown for valid input.";
         }
@@ -135,5 +144,84 @@ public class ParserUtilityCommandTest {
         assertThrows(QuotelyException.class, () -> {
             Parser.parse("search quote1", state, quoteList);
         });
+        assertThrows(QuotelyException.class, () -> {
+            Parser.parse("search q/ ", state, quoteList);
+        });
+    }
+
+    @Test
+    public void parseCustomerCommand_validInput_returnCustomerQuotesCommand() {
+        QuoteList quoteList = new QuoteList();
+        QuotelyState state = QuotelyState.getInstance();
+        try {
+            Command command = Parser.parse("customer c/ Acme Pte Ltd ", state, quoteList);
+            assertTrue(command instanceof CustomerQuotesCommand);
+            assertEquals("Acme Pte Ltd", ((CustomerQuotesCommand) command).getCustomerName());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown for valid input.";
+        }
+        assertThrows(QuotelyException.class, () -> Parser.parse("customer Acme", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("customer c/ ", state, quoteList));
+    }
+
+    @Test
+    public void parseShowCommand_sortOrder_returnShowQuotesCommand() {
+        QuoteList quoteList = new QuoteList();
+        QuotelyState state = QuotelyState.getInstance();
+        try {
+            Command command = Parser.parse("show sort/total", state, quoteList);
+            assertEquals(ShowQuotesCommand.SortOrder.TOTAL, ((ShowQuotesCommand) command).getSortOrder());
+            command = Parser.parse("show sort/Customer", state, quoteList);
+            assertEquals(ShowQuotesCommand.SortOrder.CUSTOMER, ((ShowQuotesCommand) command).getSortOrder());
+            command = Parser.parse("show", state, quoteList);
+            assertEquals(ShowQuotesCommand.SortOrder.ADDED, ((ShowQuotesCommand) command).getSortOrder());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown for valid input.";
+        }
+        assertThrows(QuotelyException.class, () -> Parser.parse("show sort/price", state, quoteList));
+    }
+
+    @Test
+    public void parseTopCommand_variousCounts_returnCommandOrThrow() {
+        QuoteList quoteList = new QuoteList();
+        QuotelyState state = QuotelyState.getInstance();
+        try {
+            Command command = Parser.parse("top 10 by total", state, quoteList);
+            assertEquals(10, ((TopQuotesCommand) command).getCount());
+            command = Parser.parse("top 3", state, quoteList);
+            assertEquals(3, ((TopQuotesCommand) command).getCount());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown for valid input.";
+        }
+        assertThrows(QuotelyException.class, () -> Parser.parse("top 0", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("top ten", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("top 5 by name", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("top", state, quoteList));
+    }
+
+    @Test
+    public void parseShowCommand_pageSizeAndCompact_returnShowQuotesCommand() {
+        QuoteList quoteList = new QuoteList();
+        QuotelyState state = QuotelyState.getInstance();
+        try {
+            ShowQuotesCommand command = (ShowQuotesCommand) Parser.parse("show page/3 size/50 compact sort/name",
+                    state, quoteList);
+            assertEquals(3, command.getPage());
+            assertEquals(50, command.getPageSize());
+            assertTrue(command.isCompact());
+            assertEquals(ShowQuotesCommand.SortOrder.NAME, command.getSortOrder());
+
+            command = (ShowQuotesCommand) Parser.parse("show size/5", state, quoteList);
+            assertEquals(1, command.getPage());
+            command = (ShowQuotesCommand) Parser.parse("show page/2", state, quoteList);
+            assertEquals(ShowQuotesCommand.DEFAULT_PAGE_SIZE, command.getPageSize());
+            command = (ShowQuotesCommand) Parser.parse("show", state, quoteList);
+            assertEquals(0, command.getPage());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown for valid input.";
+        }
+        assertThrows(QuotelyException.class, () -> Parser.parse("show page/0", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("show size/x", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("show everything", state, quoteList));
     }
 }
@@ -0,0 +1,62 @@
+package seedu.quotely.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class BackgroundSaverTest {
+
+    @Test
+    public void flush_coalescedRequests_writesLatestSnapshotAndTrimsJournal() {
+        try {
+            Path tempDir = Files.createTempDirectory("saver");
+            Storage storage = new Storage(tempDir.toString(), "test.json");
+            ChangeJournal journal = new ChangeJournal(tempDir.toString(), "test.journal");
+            JsonSerializer serializer = new JsonSerializer();
+            // staleness window long enough that only flush() can write
+            BackgroundSaver saver = new BackgroundSaver(storage, serializer, journal, 60_000);
+
+            for (long revision = 1; revision <= 3; revision++) {
+                JournalEntry entry = JournalEntry.addQuote("quote" + revision, "customer");
+                entry.setRevision(revision);
+                journal.append(entry);
+            }
+
+            QuoteList quoteList = new QuoteList();
+            quoteList.addQuote(new Quote("quote1", "customer"));
+            ApplicationData first = new ApplicationData(quoteList.copy(), new CompanyName("Default"));
+            first.setRevision(1);
+            saver.requestSave(first);
+
+            quoteList.addQuote(new Quote("quote2", "customer"));
+            ApplicationData second = new ApplicationData(quoteList.copy(), new CompanyName("Default"));
+            second.setRevision(2);
+            saver.requestSave(second);
+
+            // the later change must not leak into the snapshot already requested
+            quoteList.addQuote(new Quote("quote3", "customer"));
+            saver.flush();
+            assertFalse(saver.hasPendingSave());
+
+            ApplicationData loaded = storage.loadData(serializer);
+            assertEquals(2, loaded.getQuoteList().getQuotes().size());
+            assertEquals(2, loaded.getRevision());
+
+            List<JournalEntry> remaining = journal.loadEntries();
+            assertEquals(1, remaining.size());
+            assertEquals(3, remaining.get(0).getRevision());
+
+            saver.shutdown();
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.quotely.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Item;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinarySerializerTest {
+
+    private ApplicationData createTestData() {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 0; i < 20; i++) {
+            Quote quote = new Quote("quote" + i, "customer" + (i % 3));
+            quote.addItem("Standard Widget", 10.1, 2, 9.0);
+            quote.addItem("Installation", 0.3, 1, 0);
+            quoteList.addQuote(quote);
+        }
+        ApplicationData appData = new ApplicationData(quoteList, new CompanyName("My Test Company"));
+        appData.setRevision(42);
+        return appData;
+    }
+
+    @Test
+    public void serialize_validInput_roundTripIsLossless() {
+        try {
+            BinarySerializer serializer = new BinarySerializer();
+            ApplicationData appData = createTestData();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.serialize(appData, out);
+            ApplicationData loaded = serializer.deserializeStrict(new ByteArrayInputStream(out.toByteArray()));
+
+            assertEquals(42, loaded.getRevision());
+            assertEquals("My Test Company", loaded.getCompanyName().getCompanyName());
+            assertEquals(20, loaded.getQuoteList().getQuotes().size());
+            Quote quote = loaded.getQuoteList().getQuoteByName("quote7");
+            assertEquals("customer1", quote.getCustomerName());
+            Item item = quote.getItems().get(1);
+            assertEquals("Installation", item.getItemName());
+            assertEquals(0.3, item.getPrice());
+
+            // the same data must produce the same JSON after a trip through the binary format
+            JsonSerializer jsonSerializer = new JsonSerializer();
+            assertEquals(jsonSerializer.serialize(appData), jsonSerializer.serialize(loaded));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void deserializeStrict_version2DecimalAmounts_convertedToCents() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(bytes);
+            data.writeInt(BinarySerializer.MAGIC);
+            data.writeInt(2);
+            data.writeLong(5);
+            data.writeInt(3);
+            for (String s : new String[] {"quote", "customer", "desk"}) {
+                data.writeInt(s.length());
+                data.writeBytes(s);
+            }
+            data.writeInt(-1);
+            data.writeInt(1);
+            data.writeInt(0);
+            data.writeInt(1);
+            data.writeInt(1);
+            data.writeInt(2);
+            data.writeDouble(19.99);
+            data.writeInt(3);
+            data.writeDouble(8.25);
+
+            ApplicationData loaded = new BinarySerializer()
+                    .deserializeStrict(new ByteArrayInputStream(bytes.toByteArray()));
+            Item item = loaded.getQuoteList().getQuoteByName("quote").getItems().get(0);
+            assertEquals(1999, item.getPriceCents());
+            assertEquals(825, item.getTaxBasisPoints());
+            assertEquals(5, loaded.getRevision());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void serialize_repeatedNames_smallerThanJson() {
+        try {
+            ApplicationData appData = createTestData();
+            ByteArrayOutputStream binaryOut = new ByteArrayOutputStream();
+            new BinarySerializer().serialize(appData, binaryOut);
+            ByteArrayOutputStream jsonOut = new ByteArrayOutputStream();
+            new JsonSerializer(false).serialize(appData, jsonOut);
+
+            assertTrue(binaryOut.size() < jsonOut.size());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void deserializeStrict_invalidInput_throwException() {
+        BinarySerializer serializer = new BinarySerializer();
+        assertThrows(IOException.class,
+                () -> serializer.deserializeStrict(new ByteArrayInputStream(new byte[0])));
+        assertThrows(IOException.class,
+                () -> serializer.deserializeStrict(new ByteArrayInputStream("{ }".getBytes())));
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.serialize(createTestData(), out);
+            byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() / 2);
+            assertThrows(IOException.class,
+                    () -> serializer.deserializeStrict(new ByteArrayInputStream(truncated)));
+        } catch (IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() {
+        try {
+            Path tempDir = Files.createTempDirectory("convert");
+            Path jsonFile = tempDir.resolve("quotely.json");
+            Path binaryFile = tempDir.resolve("quotely.qbin");
+            Path convertedFile = tempDir.resolve("converted.json");
+            new Storage(tempDir.toString(), "quotely.json").saveData(createTestData(), new JsonSerializer());
+
+            DataFileConverter.convert(jsonFile, DataFileConverter.serializerFor(jsonFile),
+                    binaryFile, DataFileConverter.serializerFor(binaryFile));
+            DataFileConverter.convert(binaryFile, DataFileConverter.serializerFor(binaryFile),
+                    convertedFile, DataFileConverter.serializerFor(convertedFile));
+
+            assertEquals(Files.readString(jsonFile), Files.readString(convertedFile));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.quotely.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.exception.QuotelyException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChangeJournalTest {
+
+    @Test
+    public void append_validEntries_loadAndReplaySuccess() {
+        try {
+            Path tempDir = Files.createTempDirectory("journal");
+            ChangeJournal journal = new ChangeJournal(tempDir.toString(), "test.journal");
+
+            JournalEntry addQuote = JournalEntry.addQuote("quote1", "customer1");
+            addQuote.setRevision(1);
+            JournalEntry addItem = JournalEntry.addItem("quote1", "TestItem", 10_00, 2, 9_00);
+            addItem.setRevision(2);
+            JournalEntry register = JournalEntry.registerCompany("My Test Company");
+            register.setRevision(3);
+            journal.append(addQuote);
+            journal.append(addItem);
+            journal.append(register);
+            assertEquals(3, journal.getEntryCount());
+
+            ChangeJournal reopened = new ChangeJournal(tempDir.toString(), "test.journal");
+            List<JournalEntry> entries = reopened.loadEntries();
+            assertEquals(3, entries.size());
+            assertEquals(3, reopened.getEntryCount());
+            assertEquals(2, entries.get(1).getRevision());
+
+            QuoteList quoteList = new QuoteList();
+            CompanyName companyName = new CompanyName("Default");
+            for (JournalEntry entry : entries) {
+                entry.apply(quoteList, companyName);
+            }
+            Quote quote = quoteList.getQuoteByName("quote1");
+            assertEquals("customer1", quote.getCustomerName());
+            assertEquals(1, quote.getItems().size());
+            assertEquals(9.0, quote.getItems().get(0).getTaxRate());
+            assertEquals("My Test Company", companyName.getCompanyName());
+
+            reopened.clear();
+            assertEquals(0, reopened.getEntryCount());
+            assertEquals(0, reopened.loadEntries().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void loadEntries_truncatedLastLine_ignoresPartialEntry() {
+        try {
+            Path tempDir = Files.createTempDirectory("journal");
+            ChangeJournal journal = new ChangeJournal(tempDir.toString(), "test.journal");
+            journal.append(JournalEntry.addQuote("quote1", "customer1"));
+            Files.writeString(journal.getJournalFilePath(), "{\"type\":\"DELETE_QU",
+                    StandardOpenOption.APPEND);
+
+            List<JournalEntry> entries = journal.loadEntries();
+            assertEquals(1, entries.size());
+            assertEquals(JournalEntry.Type.ADD_QUOTE, entries.get(0).getType());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void loadEntries_itemAmounts_replayedInCentsAndBasisPoints() {
+        try {
+            Path tempDir = Files.createTempDirectory("journal");
+            ChangeJournal journal = new ChangeJournal(tempDir.toString(), "test.journal");
+            journal.append(JournalEntry.addQuote("quote1", "customer1"));
+            journal.append(JournalEntry.addItem("quote1", "Exact", 1_005, 3, 8_25));
+            // a line written by a version that journaled amounts as decimals
+            Files.writeString(journal.getJournalFilePath(), "{\"type\":\"ADD_ITEM\",\"quoteName\":\"quote1\","
+                    + "\"itemName\":\"Old\",\"price\":10.05,\"quantity\":1,\"taxRate\":9.0}"
+                    + System.lineSeparator(), StandardOpenOption.APPEND);
+            String lines = Files.readString(journal.getJournalFilePath());
+            assertTrue(lines.contains("\"priceCents\":1005,\"quantity\":3,\"taxBasisPoints\":825"));
+
+            QuoteList quoteList = new QuoteList();
+            for (JournalEntry entry : journal.loadEntries()) {
+                entry.apply(quoteList, new CompanyName("Default"));
+            }
+            Quote quote = quoteList.getQuoteByName("quote1");
+            assertEquals(1_005, quote.getItemStore().getPriceCents(0));
+            assertEquals(8_25, quote.getItemStore().getTaxBasisPoints(0));
+            assertEquals(1_005, quote.getItemStore().getPriceCents(1));
+            assertEquals(9_00, quote.getItemStore().getTaxBasisPoints(1));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void apply_missingQuote_throwException() {
+        QuoteList quoteList = new QuoteList();
+        CompanyName companyName = new CompanyName("Default");
+        assertThrows(QuotelyException.class,
+                () -> JournalEntry.deleteItem("quote1", "TestItem").apply(quoteList, companyName));
+        assertThrows(QuotelyException.class,
+                () -> JournalEntry.deleteQuote("quote1").apply(quoteList, companyName));
+        assertFalse(quoteList.hasQuote("quote1"));
+    }
+}
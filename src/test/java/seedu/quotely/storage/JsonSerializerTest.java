@@ -11,8 +11,12 @@ import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.ui.Ui;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class JsonSerializerTest {
 
@@ -47,9 +51,9 @@ public class JsonSerializerTest {
             "        \"items\": [\n" +
             "          {\n" +
             "            \"itemName\": \"TestItem\",\n" +
-            "            \"price\": 10.0,\n" +
+            "            \"priceCents\": 1000,\n" +
             "            \"quantity\": 2,\n" +
-            "            \"taxRate\": 0.0\n" +
+            "            \"taxBasisPoints\": 0\n" +
             "          }\n" +
             "        ]\n" +
             "      }\n" +
@@ -172,5 +176,75 @@ public class JsonSerializerTest {
             assert false : "Execution should not fail.";
         }
     }
-}
 
+    @Test
+    public void serializeToWriter_validInput_matchesStringOutput() {
+        try {
+            JsonSerializer serializer = new JsonSerializer();
+            ApplicationData appData = serializer.deserialize(referenceJsonString3);
+
+            StringWriter writer = new StringWriter();
+            serializer.serialize(appData, writer);
+            assertEquals(referenceJsonString3, writer.toString());
+
+            ApplicationData reloaded = serializer.deserialize(new StringReader(writer.toString()));
+            Item item = reloaded.getQuoteList().getQuoteByName("1").getItems().get(0);
+            assertEquals("TestItem", item.getItemName());
+            assertEquals(2, item.getQuantity());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void serializeToWriter_compactMode_singleLineOutput() {
+        try {
+            JsonSerializer serializer = new JsonSerializer(false);
+            ApplicationData appData = serializer.deserialize(new StringReader(referenceJsonString3));
+
+            StringWriter writer = new StringWriter();
+            serializer.serialize(appData, writer);
+            String compactJson = writer.toString();
+            assertFalse(compactJson.contains("\n"));
+            assertTrue(compactJson.length() < referenceJsonString3.length());
+            assertEquals(1, serializer.deserialize(new StringReader(compactJson)).getQuoteList().getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void deserialize_decimalAmountsFromOlderFile_convertedToCents() {
+        try {
+            JsonSerializer serializer = new JsonSerializer();
+            String olderJson = referenceJsonString3
+                    .replace("\"priceCents\": 1000", "\"price\": 10.1")
+                    .replace("\"taxBasisPoints\": 0", "\"taxRate\": 8.25");
+            ApplicationData appData = serializer.deserialize(olderJson);
+
+            Item item = appData.getQuoteList().getQuoteByName("1").getItems().get(0);
+            assertEquals(1010, item.getPriceCents());
+            assertEquals(825, item.getTaxBasisPoints());
+            assertEquals(2020 + 167, appData.getQuoteList().getQuoteByName("1").getQuoteTotalCents());
+
+            String savedJson = serializer.serialize(appData);
+            assertTrue(savedJson.contains("\"priceCents\": 1010"));
+            assertFalse(savedJson.contains("\"price\":"));
+            assertFalse(savedJson.contains("\"taxRate\""));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void deserializeFromReader_invalidInput_returnEmptyData() {
+        try {
+            JsonSerializer serializer = new JsonSerializer();
+            assertEquals(0, serializer.deserialize(new StringReader("")).getQuoteList().getQuotes().size());
+            assertEquals(0, serializer.deserialize(new StringReader("{ \"quoteList\": [ }"))
+                    .getQuoteList().getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.quotely.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.LoadedQuoteCache;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedDataFileTest {
+
+    private Storage createBinaryFile() throws IOException {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 0; i < 50; i++) {
+            Quote quote = new Quote("quote" + i, "customer" + (i % 4));
+            quote.addItem("Standard Widget", 10.1, 2, 9.0);
+            quote.addItem("Item " + i, i, i + 1, 0);
+            quoteList.addQuote(quote);
+        }
+        ApplicationData appData = new ApplicationData(quoteList, new CompanyName("My Test Company"));
+        appData.setRevision(7);
+
+        Storage storage = new Storage(Files.createTempDirectory("mapped").toString(), "quotely.qbin");
+        storage.saveData(appData, new BinarySerializer());
+        return storage;
+    }
+
+    @Test
+    public void mapData_binaryFile_quotesMaterializedOnAccess() {
+        try {
+            ApplicationData appData = createBinaryFile().mapData();
+
+            assertEquals(7, appData.getRevision());
+            assertEquals("My Test Company", appData.getCompanyName().getCompanyName());
+            QuoteList quoteList = appData.getQuoteList();
+            assertEquals(50, quoteList.getQuotes().size());
+
+            Quote quote = quoteList.getQuoteByName("QUOTE42");
+            assertEquals("customer2", quote.getCustomerName());
+            assertFalse(quote.isLoaded());
+            assertEquals("Item 42", quote.getItems().get(1).getItemName());
+            assertEquals(43, quote.getItems().get(1).getQuantity());
+            assertTrue(quote.isLoaded());
+            assertSame(quote, quoteList.getQuotes().get(42));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void mapData_sameDataAsLoadData() {
+        try {
+            Storage storage = createBinaryFile();
+            ApplicationData mapped = storage.mapData();
+            ApplicationData loaded = storage.loadData(new BinarySerializer());
+
+            JsonSerializer jsonSerializer = new JsonSerializer();
+            // copy() materializes every quote of the mapped view
+            ApplicationData mappedCopy = new ApplicationData(mapped.getQuoteList().copy(), mapped.getCompanyName());
+            mappedCopy.setRevision(mapped.getRevision());
+            assertEquals(jsonSerializer.serialize(loaded), jsonSerializer.serialize(mappedCopy));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void mapData_readOnlyView_addQuoteThrowsException() {
+        try {
+            QuoteList quoteList = createBinaryFile().mapData().getQuoteList();
+            assertThrows(UnsupportedOperationException.class,
+                    () -> quoteList.getQuotes().add(new Quote("new quote", "customer")));
+        } catch (IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void mapData_withItemCache_modifiableAndSavesAllItems() {
+        try {
+            Storage storage = createBinaryFile();
+            LoadedQuoteCache cache = new LoadedQuoteCache(5);
+            QuoteList quoteList = storage.mapData(cache).getQuoteList();
+
+            for (Quote quote : quoteList.getQuotes()) {
+                assertFalse(quote.isLoaded());
+                quote.getItems();
+            }
+            assertEquals(5, cache.getLoadedCount());
+            quoteList.getQuoteByName("quote3").addItem("Extra", 1.0, 1, 0);
+            quoteList.addQuote(new Quote("new quote", "customer"));
+
+            ApplicationData copy = new ApplicationData(quoteList.copy(), new CompanyName("My Test Company"));
+            storage.saveData(copy, new BinarySerializer());
+            QuoteList saved = storage.loadData(new BinarySerializer()).getQuoteList();
+
+            assertEquals(51, saved.getQuotes().size());
+            assertEquals(3, saved.getQuoteByName("quote3").getItems().size());
+            assertEquals("Item 10", saved.getQuoteByName("quote10").getItems().get(1).getItemName());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void mapData_withItemCache_indexesAndItemCountsReadWithoutLoadingItems() {
+        try {
+            Storage storage = createBinaryFile();
+            LoadedQuoteCache cache = new LoadedQuoteCache(5);
+            QuoteList quoteList = storage.mapData(cache).getQuoteList();
+            QuoteList loaded = storage.loadData(new BinarySerializer()).getQuoteList();
+
+            assertEquals(List.of(quoteList.getQuoteByName("quote12")), quoteList.findQuotes("i:item i:12"));
+            assertEquals(50, quoteList.findQuotes("widget").size());
+            assertEquals(quoteList.getQuoteByName("quote49"), quoteList.getTopQuotesByTotal(1).get(0));
+            assertEquals(loaded.getPortfolioTotal(), quoteList.getPortfolioTotal(), 1e-9);
+            assertEquals(0, cache.getLoadedCount());
+            for (Quote quote : quoteList.getQuotes()) {
+                assertEquals(2, quote.getItemCount());
+                assertFalse(quote.isLoaded());
+            }
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void mapData_withItemCache_snapshotSavedWithoutKeepingItems() {
+        try {
+            Storage storage = createBinaryFile();
+            LoadedQuoteCache cache = new LoadedQuoteCache(5);
+            QuoteList quoteList = storage.mapData(cache).getQuoteList();
+
+            QuoteList snapshot = quoteList.snapshot();
+            storage.saveData(new ApplicationData(snapshot, new CompanyName("My Test Company")),
+                    new BinarySerializer());
+
+            assertEquals(0, cache.getLoadedCount());
+            for (int i = 0; i < 50; i++) {
+                assertFalse(quoteList.getQuotes().get(i).isLoaded());
+                assertFalse(snapshot.getQuotes().get(i).isLoaded());
+            }
+            QuoteList saved = storage.loadData(new BinarySerializer()).getQuoteList();
+            assertEquals("Item 10", saved.getQuoteByName("quote10").getItems().get(1).getItemName());
+            assertEquals(2, saved.getQuoteByName("quote49").getItems().size());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void mapData_withItemCache_dataFileNotMappedAndCopiesDeleted() {
+        try {
+            Storage storage = createBinaryFile();
+            Path staleCopy = storage.getDataFilePath().resolveSibling("quotely.qbin.123.map");
+            Files.write(staleCopy, new byte[] {1, 2, 3});
+
+            QuoteList quoteList = storage.mapData(new LoadedQuoteCache(5)).getQuoteList();
+            // replaced while mapped, as every save does
+            storage.saveData(new ApplicationData(new QuoteList(), new CompanyName("Other")), new BinarySerializer());
+
+            assertEquals("Item 7", quoteList.getQuoteByName("quote7").getItems().get(1).getItemName());
+            assertFalse(Files.exists(staleCopy));
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void open_invalidFile_throwException() {
+        try {
+            Path tempDir = Files.createTempDirectory("mapped");
+            Path jsonFile = tempDir.resolve("quotely.json");
+            Files.writeString(jsonFile, "{ }");
+            assertThrows(IOException.class, () -> MappedDataFile.open(jsonFile));
+
+            Path source = createBinaryFile().getDataFilePath();
+            byte[] bytes = Files.readAllBytes(source);
+            Path truncatedFile = tempDir.resolve("truncated.qbin");
+            Files.write(truncatedFile, Arrays.copyOf(bytes, bytes.length - 3));
+            assertThrows(IOException.class, () -> MappedDataFile.open(truncatedFile));
+        } catch (IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void mapData_noFile_returnEmptyData() {
+        try {
+            Storage storage = new Storage(Files.createTempDirectory("mapped").toString(), "missing.qbin");
+            assertTrue(storage.mapData().getQuoteList().getQuotes().isEmpty());
+        } catch (IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
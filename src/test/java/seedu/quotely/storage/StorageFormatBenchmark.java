@@ -0,0 +1,91 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+
+/**
+ * Compares save time, load time and file size of the JSON and binary storage formats,
+ * and the time to map a binary file and read one quote from it.
+ * Run with {@code ./gradlew benchmark -Pbench=seedu.quotely.storage.StorageFormatBenchmark [-Pargs=QUOTES]}.
+ */
+public class StorageFormatBenchmark {
+    private static final int DEFAULT_QUOTE_COUNT = 20_000;
+    private static final int ITEMS_PER_QUOTE = 10;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        int quoteCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_QUOTE_COUNT;
+        ApplicationData appData = createBook(quoteCount);
+        Path tempDir = Files.createTempDirectory("quotely-bench");
+
+        System.out.printf("%d quotes x %d items%n", quoteCount, ITEMS_PER_QUOTE);
+        System.out.printf("%-14s %12s %12s %12s%n", "format", "save (ms)", "load (ms)", "size (KB)");
+        run("json-pretty", new JsonSerializer(true), appData, tempDir);
+        run("json-compact", new JsonSerializer(false), appData, tempDir);
+        run("binary", new BinarySerializer(), appData, tempDir);
+        runMapped(tempDir, quoteCount);
+    }
+
+    private static void runMapped(Path dir, int quoteCount) throws IOException {
+        Storage storage = new Storage(dir.toString(), "binary.data", 0);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            storage.mapData().getQuoteList().getQuotes().get(quoteCount / 2).getItems();
+        }
+
+        long mapNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            ApplicationData mapped = storage.mapData();
+            Quote quote = mapped.getQuoteList().getQuotes().get(quoteCount / 2);
+            mapNanos += System.nanoTime() - start;
+            assert quote.getItems().size() == ITEMS_PER_QUOTE;
+        }
+
+        System.out.printf("%-14s %12s %12.1f %12s%n", "binary-mapped", "-",
+                mapNanos / 1e6 / MEASURED_ROUNDS, "-");
+    }
+
+    private static void run(String name, DataSerializer serializer, ApplicationData appData, Path dir)
+            throws IOException {
+        Storage storage = new Storage(dir.toString(), name + ".data", 0);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            storage.saveData(appData, serializer);
+            storage.loadData(serializer);
+        }
+
+        long saveNanos = 0;
+        long loadNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            storage.saveData(appData, serializer);
+            saveNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ApplicationData loaded = storage.loadData(serializer);
+            loadNanos += System.nanoTime() - start;
+            assert loaded.getQuoteList().getQuotes().size() == appData.getQuoteList().getQuotes().size();
+        }
+
+        System.out.printf("%-14s %12.1f %12.1f %12d%n", name,
+                saveNanos / 1e6 / MEASURED_ROUNDS, loadNanos / 1e6 / MEASURED_ROUNDS,
+                Files.size(storage.getDataFilePath()) / 1024);
+    }
+
+    private static ApplicationData createBook(int quoteCount) {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 0; i < quoteCount; i++) {
+            Quote quote = new Quote("Quote " + i, "Customer " + (i % 500));
+            for (int j = 0; j < ITEMS_PER_QUOTE; j++) {
+                quote.addItem("Item type " + ((i + j) % 200), 10.0 + j * 1.25, 1 + j, j % 2 == 0 ? 9.0 : 0);
+            }
+            quoteList.addQuote(quote);
+        }
+        return new ApplicationData(quoteList, new CompanyName("Benchmark Company"));
+    }
+}
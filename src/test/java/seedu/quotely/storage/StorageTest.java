@@ -1,11 +1,15 @@
 package seedu.quotely.storage;
 
 import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -98,5 +102,89 @@ public class StorageTest {
             assert false : "Exception should not be thrown";
         }
     }
-}
 
+    @Test
+    public void saveDataStreaming_validInput_loadDataStreamingSuccess() {
+        try {
+            Path tempFile = Files.createTempFile("test", ".json");
+            Storage storage = new Storage(tempFile.getParent().toString(), tempFile.getFileName().toString());
+            JsonSerializer serializer = new JsonSerializer(false);
+
+            QuoteList quoteList = new QuoteList();
+            Quote quote = new Quote("1", "1");
+            quote.addItem("TestItem", 10.0, 2, 0);
+            quoteList.addQuote(quote);
+            storage.saveData(new ApplicationData(quoteList, new CompanyName("My Test Company")), serializer);
+
+            ApplicationData loaded = storage.loadData(serializer);
+            assertEquals("My Test Company", loaded.getCompanyName().getCompanyName());
+            assertEquals(1, loaded.getQuoteList().getQuotes().size());
+            assertEquals(20.0, loaded.getQuoteList().getQuoteByName("1").getQuoteTotal());
+
+            //delete the file path to simulate nonexistent file path situation
+            Files.deleteIfExists(tempFile);
+            assertEquals(0, storage.loadData(serializer).getQuoteList().getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void saveData_repeatedSaves_keepsRotatedBackups() {
+        try {
+            Path tempDir = Files.createTempDirectory("storage");
+            Storage storage = new Storage(tempDir.toString(), "test.json", 2);
+
+            storage.saveData("first");
+            storage.saveData("second");
+            storage.saveData("third");
+            storage.saveData("fourth");
+
+            assertEquals("fourth", Files.readString(storage.getDataFilePath()));
+            assertEquals("third", Files.readString(storage.getBackupFilePath(1)));
+            assertEquals("second", Files.readString(storage.getBackupFilePath(2)));
+            assertFalse(Files.exists(storage.getBackupFilePath(3)));
+            assertFalse(Files.exists(tempDir.resolve("test.json.tmp")));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void loadData_corruptedDataFile_recoversFromBackup() {
+        try {
+            Path tempDir = Files.createTempDirectory("storage");
+            Storage storage = new Storage(tempDir.toString(), "test.json");
+            JsonSerializer serializer = new JsonSerializer();
+
+            QuoteList quoteList = new QuoteList();
+            quoteList.addQuote(new Quote("1", "1"));
+            storage.saveData(new ApplicationData(quoteList, new CompanyName("Default")), serializer);
+            quoteList.addQuote(new Quote("2", "2"));
+            storage.saveData(new ApplicationData(quoteList, new CompanyName("Default")), serializer);
+
+            //simulate a crash that left a truncated data file behind
+            Files.writeString(storage.getDataFilePath(), "{\n  \"quoteList\": {\n    \"quo");
+            ApplicationData recovered = storage.loadData(serializer);
+            assertEquals(1, recovered.getQuoteList().getQuotes().size());
+            assertEquals("1", recovered.getQuoteList().getQuotes().get(0).getQuoteName());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void loadData_corruptedFileWithoutBackup_throwException() {
+        try {
+            Path tempDir = Files.createTempDirectory("storage");
+            Storage storage = new Storage(tempDir.toString(), "test.json");
+            Files.writeString(storage.getDataFilePath(), "{ not json");
+            assertThrows(RuntimeException.class, () -> storage.loadData(new JsonSerializer()));
+
+            Files.writeString(storage.getDataFilePath(), "");
+            assertEquals(0, storage.loadData(new JsonSerializer()).getQuoteList().getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.quotely.writer;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.exception.QuotelyException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PDFWriterTest {
+
+    private Quote createQuote() {
+        Quote quote = new Quote("TestQuote", "TestCustomer");
+        quote.addItem("Desk", 100.0, 2, 9.0);
+        return quote;
+    }
+
+    @Test
+    public void writeQuote_inMemoryStream_pdfWrittenAndStreamLeftOpen() {
+        boolean[] closed = { false };
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        try {
+            PDFWriter.getInstance().writeQuote(createQuote(), new CompanyName("default"), out);
+
+            assertTrue(new String(out.toByteArray(), StandardCharsets.ISO_8859_1).startsWith("%PDF"));
+            assertFalse(closed[0]);
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void writeQuote_failingStream_throwsWriteError() {
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        QuotelyException e = assertThrows(QuotelyException.class, () ->
+                PDFWriter.getInstance().writeQuote(createQuote(), new CompanyName("default"), out));
+        assertEquals(QuotelyException.ErrorType.PDF_WRITE_ERROR, e.getErrorType());
+        assertTrue(e.getMessage().endsWith("disk full"));
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    public void writeQuoteToFile_unchangedAndChangedQuote_onlyChangedQuoteWritten() {
+        try {
+            Path dir = Files.createTempDirectory("export");
+            Path file = dir.resolve("quote.pdf");
+            PDFWriter pdfWriter = PDFWriter.getInstance();
+            Quote quote = createQuote();
+            CompanyName companyName = new CompanyName("default");
+            int hits = pdfWriter.getCache().getHitCount();
+
+            pdfWriter.writeQuoteToFile(quote, companyName, dir, "quote");
+            byte[] written = Files.readAllBytes(file);
+            FileTime writtenTime = Files.getLastModifiedTime(file);
+            pdfWriter.writeQuoteToFile(quote, companyName, dir, "quote");
+            assertEquals(hits + 1, pdfWriter.getCache().getHitCount());
+            assertEquals(writtenTime, Files.getLastModifiedTime(file));
+            assertArrayEquals(written, Files.readAllBytes(file));
+
+            quote.addItem("Chair", 50.0, 1, 0);
+            pdfWriter.writeQuoteToFile(quote, companyName, dir, "quote");
+            assertEquals(hits + 1, pdfWriter.getCache().getHitCount());
+            String key = PdfCache.computeKey(List.of(quote), companyName, LocalDate.now());
+            assertTrue(pdfWriter.getCache().isUpToDate(file, key));
+            assertFalse(Files.exists(dir.resolve("quote.pdf.tmp")));
+        } catch (QuotelyException | IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.quotely.writer;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfCacheTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+
+    private Quote createQuote() {
+        Quote quote = new Quote("quote", "customer");
+        quote.addItem("Desk", 100.0, 2, 9.0);
+        return quote;
+    }
+
+    @Test
+    void computeKey_sameContent_sameKey() {
+        CompanyName companyName = new CompanyName("company");
+        assertEquals(PdfCache.computeKey(List.of(createQuote()), companyName, DATE),
+                PdfCache.computeKey(List.of(createQuote()), companyName, DATE));
+    }
+
+    @Test
+    void computeKey_changedContent_differentKey() {
+        CompanyName companyName = new CompanyName("company");
+        Quote quote = createQuote();
+        String key = PdfCache.computeKey(List.of(quote), companyName, DATE);
+
+        assertNotEquals(key, PdfCache.computeKey(List.of(quote), new CompanyName("other"), DATE));
+        assertNotEquals(key, PdfCache.computeKey(List.of(quote), companyName, DATE.plusDays(1)));
+        quote.addItem("Chair", 50.0, 1, 0);
+        assertNotEquals(key, PdfCache.computeKey(List.of(quote), companyName, DATE));
+    }
+
+    @Test
+    void isUpToDate_recordedFile_trueUntilFileOrKeyChanges() {
+        try {
+            Path file = Files.createTempDirectory("pdf-cache").resolve("quote.pdf");
+            PdfCache cache = new PdfCache();
+            assertFalse(cache.isUpToDate(file, "a"));
+
+            Files.write(file, new byte[] {1, 2, 3});
+            cache.record(file, "a");
+            assertTrue(cache.isUpToDate(file, "a"));
+            assertTrue(new PdfCache().isUpToDate(file, "a"));
+            assertFalse(cache.isUpToDate(file, "b"));
+
+            Files.write(file, new byte[] {1, 2, 3, 4});
+            assertFalse(cache.isUpToDate(file, "a"));
+            assertEquals(1, cache.getHitCount());
+            assertEquals(3, cache.getMissCount());
+        } catch (IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    void forget_recordedFile_notUpToDate() {
+        try {
+            Path file = Files.createTempDirectory("pdf-cache").resolve("quote.pdf");
+            Files.write(file, new byte[] {1, 2, 3});
+            PdfCache cache = new PdfCache();
+            cache.record(file, "a");
+            cache.forget(file);
+
+            assertFalse(Files.exists(PdfCache.getSidecarPath(file)));
+            assertFalse(cache.isUpToDate(file, "a"));
+        } catch (IOException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+}
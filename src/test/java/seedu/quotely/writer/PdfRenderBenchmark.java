@@ -0,0 +1,49 @@
+package seedu.quotely.writer;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.exception.QuotelyException;
+
+/**
+ * Measures the time and the memory allocated to render a quote with 30 (or ITEMS) items to PDF.
+ * The PDF is written to a stream that discards it, so only rendering is measured.
+ * Run with {@code ./gradlew benchmark -Pbench=seedu.quotely.writer.PdfRenderBenchmark [-Pargs='QUOTES [ITEMS]']}.
+ */
+public class PdfRenderBenchmark {
+    private static final int DEFAULT_QUOTE_COUNT = 2_000;
+    private static final int WARMUP_QUOTES = 500;
+    private static final int DEFAULT_ITEMS_PER_QUOTE = 30;
+
+    public static void main(String[] args) throws QuotelyException {
+        int quoteCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_QUOTE_COUNT;
+        int itemCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITEMS_PER_QUOTE;
+        Quote quote = new Quote("Benchmark Quote", "Benchmark Customer");
+        for (int i = 0; i < itemCount; i++) {
+            quote.addItem("Item type " + i, 10.0 + i * 1.25, 1 + i, i % 2 == 0 ? 9.0 : 0);
+        }
+        CompanyName companyName = new CompanyName("Benchmark Company");
+        PDFWriter pdfWriter = PDFWriter.getInstance();
+
+        for (int i = 0; i < WARMUP_QUOTES; i++) {
+            pdfWriter.writeQuote(quote, companyName, OutputStream.nullOutputStream());
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < quoteCount; i++) {
+            pdfWriter.writeQuote(quote, companyName, OutputStream.nullOutputStream());
+        }
+        long nanos = System.nanoTime() - start;
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        System.out.printf("%d quotes x %d items%n", quoteCount, itemCount);
+        System.out.printf("%-22s %12.1f%n", "render (us/quote)", nanos / 1e3 / quoteCount);
+        System.out.printf("%-22s %12.1f%n", "allocated (KB/quote)", allocatedBytes / 1024.0 / quoteCount);
+    }
+}